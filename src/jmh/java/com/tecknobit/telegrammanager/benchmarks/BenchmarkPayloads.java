@@ -0,0 +1,98 @@
+package com.tecknobit.telegrammanager.benchmarks;
+
+/**
+ * The {@code BenchmarkPayloads} class is useful to hold the payloads used by the benchmarks, they have the same shape
+ * of the payloads sent by the <b>Telegram's Bot API</b>
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ */
+final class BenchmarkPayloads {
+
+    /**
+     * {@code MESSAGE} a text message sent in a supergroup with entities, reply and inline keyboard
+     */
+    static final String MESSAGE = """
+            {
+              "message_id": 52871,
+              "message_thread_id": 52790,
+              "from": {
+                "id": 184726354,
+                "is_bot": false,
+                "first_name": "Alice",
+                "last_name": "Smith",
+                "username": "alice_smith",
+                "language_code": "en",
+                "is_premium": true
+              },
+              "chat": {
+                "id": -1001672839401,
+                "title": "TelegramManager developers",
+                "username": "telegram_manager_dev",
+                "type": "supergroup",
+                "is_forum": true
+              },
+              "date": 1685018230,
+              "edit_date": 1685018290,
+              "reply_to_message": {
+                "message_id": 52790,
+                "from": {
+                  "id": 571936285,
+                  "is_bot": false,
+                  "first_name": "Bob",
+                  "username": "bob_dev",
+                  "language_code": "it"
+                },
+                "chat": {
+                  "id": -1001672839401,
+                  "title": "TelegramManager developers",
+                  "username": "telegram_manager_dev",
+                  "type": "supergroup",
+                  "is_forum": true
+                },
+                "date": 1685017802,
+                "text": "Has someone tried the new version of the library?"
+              },
+              "text": "Yes, look at https://github.com/N7ghtm4r3/TelegramManager and ping @bob_dev #release",
+              "entities": [
+                {"offset": 13, "length": 45, "type": "url"},
+                {"offset": 68, "length": 8, "type": "mention"},
+                {"offset": 77, "length": 8, "type": "hashtag"}
+              ],
+              "reply_markup": {
+                "inline_keyboard": [
+                  [
+                    {"text": "Open", "url": "https://github.com/N7ghtm4r3/TelegramManager"},
+                    {"text": "Like", "callback_data": "like:52871"}
+                  ]
+                ]
+              }
+            }""";
+
+    /**
+     * {@code UPDATE} an update which contains the {@link #MESSAGE}
+     */
+    static final String UPDATE = "{\"update_id\": 735192841, \"message\": " + MESSAGE + "}";
+
+    /**
+     * {@code MESSAGES_RESPONSE} a response of the <b>Telegram's Bot API</b> with a list of {@link #MESSAGE}
+     */
+    static final String MESSAGES_RESPONSE;
+
+    static {
+        StringBuilder response = new StringBuilder("{\"ok\": true, \"result\": [");
+        for (int j = 0; j < 10; j++) {
+            if (j > 0)
+                response.append(',');
+            response.append(MESSAGE);
+        }
+        MESSAGES_RESPONSE = response.append("]}").toString();
+    }
+
+    /**
+     * Constructor to avoid the instantiation of {@link BenchmarkPayloads} <br>
+     * No-any params required
+     */
+    private BenchmarkPayloads() {
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.tecknobit.telegrammanager.benchmarks;
+
+import com.tecknobit.telegrammanager.botapi.managers.TelegramManager.Params;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code ParamsBenchmark} class is useful to measure the time needed to assemble the query of a request with the
+ * {@link Params#createQueryString()} method
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ParamsBenchmark {
+
+    /**
+     * {@code params} the params of a {@code "sendMessage"} request
+     */
+    private Params params;
+
+    /**
+     * Method to set up the params of the benchmark <br>
+     * No-any params required
+     */
+    @Setup
+    public void setup() {
+        params = new Params();
+        params.addParam("chat_id", -1001672839401L);
+        params.addParam("message_thread_id", 52790);
+        params.addParam("text", "Hello from TelegramManager, look at https://github.com/N7ghtm4r3/TelegramManager "
+                + "& ping @bob_dev #release");
+        params.addParam("parse_mode", "HTML");
+        params.addParam("disable_notification", true);
+        params.addParam("reply_to_message_id", 52871);
+        params.addParam("reply_markup", "{\"inline_keyboard\":[[{\"text\":\"Open\",\"url\":"
+                + "\"https://github.com/N7ghtm4r3/TelegramManager\"}]]}");
+    }
+
+    /**
+     * Method to measure the creation of the query string <br>
+     * No-any params required
+     *
+     * @return the query string as {@link String}
+     */
+    @Benchmark
+    public String createQueryString() {
+        return params.createQueryString();
+    }
+
+    /**
+     * Method to measure the assembling of the params and the creation of the query string <br>
+     * No-any params required
+     *
+     * @return the query string as {@link String}
+     */
+    @Benchmark
+    public String assembleQueryString() {
+        Params params = new Params();
+        params.addParam("chat_id", -1001672839401L);
+        params.addParam("text", "Hello from TelegramManager");
+        params.addParam("parse_mode", "HTML");
+        return params.createQueryString();
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.tecknobit.telegrammanager.benchmarks;
+
+import com.tecknobit.telegrammanager.botapi.managers.updates.records.Update;
+import com.tecknobit.telegrammanager.botapi.records.basetypes.message.Message;
+import com.tecknobit.telegrammanager.botapi.records.structures.TelegramTypeStructure;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.tecknobit.telegrammanager.benchmarks.BenchmarkPayloads.*;
+import static com.tecknobit.telegrammanager.botapi.managers.TelegramManager.ReturnFormat.LIBRARY_OBJECT;
+
+/**
+ * The {@code ParsingBenchmark} class is useful to measure the time needed to create the structures from the responses
+ * of the <b>Telegram's Bot API</b>
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the structures are created both with the lazy decoding mode enabled and disabled, the JSON is parsed in the
+ * setup when the benchmark measures only the creation of the structure
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ParsingBenchmark {
+
+    /**
+     * {@code lazyDecoding} whether the lazy decoding mode is enabled
+     */
+    @Param({"false", "true"})
+    public boolean lazyDecoding;
+
+    /**
+     * {@code jUpdate} the update to create as {@link JSONObject}
+     */
+    private JSONObject jUpdate;
+
+    /**
+     * {@code jMessage} the message to create as {@link JSONObject}
+     */
+    private JSONObject jMessage;
+
+    /**
+     * Method to set up the payloads of the benchmark <br>
+     * No-any params required
+     */
+    @Setup
+    public void setup() {
+        TelegramTypeStructure.setLazyDecodingMode(lazyDecoding);
+        jUpdate = new JSONObject(UPDATE);
+        jMessage = new JSONObject(MESSAGE);
+    }
+
+    /**
+     * Method to restore the decoding mode <br>
+     * No-any params required
+     */
+    @TearDown
+    public void tearDown() {
+        TelegramTypeStructure.setLazyDecodingMode(false);
+    }
+
+    /**
+     * Method to measure the creation of an {@link Update} <br>
+     * No-any params required
+     *
+     * @return the update created as {@link Update}
+     */
+    @Benchmark
+    public Update update() {
+        return new Update(jUpdate);
+    }
+
+    /**
+     * Method to measure the creation of a {@link Message} <br>
+     * No-any params required
+     *
+     * @return the message created as {@link Message}
+     */
+    @Benchmark
+    public Message message() {
+        return new Message(jMessage);
+    }
+
+    /**
+     * Method to measure the creation of an {@link Update} from the raw payload <br>
+     * No-any params required
+     *
+     * @return the update created as {@link Update}
+     */
+    @Benchmark
+    public Update updateFromString() {
+        return new Update(new JSONObject(UPDATE));
+    }
+
+    /**
+     * Method to measure the creation of a list of messages with {@link Message#returnMessages} <br>
+     * No-any params required
+     *
+     * @return the messages created as {@link Object}
+     */
+    @Benchmark
+    public Object returnMessages() {
+        return Message.returnMessages(MESSAGES_RESPONSE, LIBRARY_OBJECT);
+    }
+
+}
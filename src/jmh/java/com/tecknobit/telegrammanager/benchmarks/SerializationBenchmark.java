@@ -0,0 +1,110 @@
+package com.tecknobit.telegrammanager.benchmarks;
+
+import com.tecknobit.telegrammanager.botapi.managers.inline.records.inputmessage.InputTextMessageContent;
+import com.tecknobit.telegrammanager.botapi.managers.inline.records.results.InlineQueryResultArticle;
+import com.tecknobit.telegrammanager.botapi.records.basetypes.keyboard.KeyboardButton;
+import com.tecknobit.telegrammanager.botapi.records.basetypes.keyboard.ReplyKeyboardMarkup;
+import com.tecknobit.telegrammanager.botapi.records.basetypes.keyboard.inline.InlineKeyboardButton;
+import com.tecknobit.telegrammanager.botapi.records.basetypes.keyboard.inline.InlineKeyboardMarkup;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code SerializationBenchmark} class is useful to measure the time needed to serialize the structures passed
+ * as params of the requests with the {@code TelegramTypeStructure.toString()} method
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SerializationBenchmark {
+
+    /**
+     * {@code inlineKeyboard} an inline keyboard with three rows of buttons
+     */
+    private InlineKeyboardMarkup inlineKeyboard;
+
+    /**
+     * {@code replyKeyboard} a reply keyboard with three rows of buttons
+     */
+    private ReplyKeyboardMarkup replyKeyboard;
+
+    /**
+     * {@code results} the results of an inline query answer
+     */
+    private ArrayList<InlineQueryResultArticle<InputTextMessageContent>> results;
+
+    /**
+     * Method to set up the structures of the benchmark <br>
+     * No-any params required
+     */
+    @Setup
+    public void setup() {
+        ArrayList<ArrayList<InlineKeyboardButton>> inlineRows = new ArrayList<>();
+        ArrayList<ArrayList<KeyboardButton>> replyRows = new ArrayList<>();
+        for (int row = 0; row < 3; row++) {
+            ArrayList<InlineKeyboardButton> inlineRow = new ArrayList<>();
+            ArrayList<KeyboardButton> replyRow = new ArrayList<>();
+            for (int column = 0; column < 3; column++) {
+                InlineKeyboardButton inlineButton = new InlineKeyboardButton("Button " + row + "-" + column);
+                inlineButton.setUrl("https://github.com/N7ghtm4r3/TelegramManager?row=" + row + "&column=" + column);
+                inlineRow.add(inlineButton);
+                KeyboardButton replyButton = new KeyboardButton();
+                replyButton.setText("Option " + row + "-" + column);
+                replyRow.add(replyButton);
+            }
+            inlineRows.add(inlineRow);
+            replyRows.add(replyRow);
+        }
+        inlineKeyboard = new InlineKeyboardMarkup(inlineRows);
+        replyKeyboard = new ReplyKeyboardMarkup(replyRows);
+        results = new ArrayList<>();
+        for (int j = 0; j < 20; j++) {
+            InputTextMessageContent content = new InputTextMessageContent("Result number " + j
+                    + " of the inline query", "HTML", null, false);
+            results.add(new InlineQueryResultArticle<>("result-" + j, "Result " + j, content, inlineKeyboard,
+                    "https://github.com/N7ghtm4r3/TelegramManager", true,
+                    "https://github.com/N7ghtm4r3/TelegramManager/thumbnail.png", 320, 320));
+        }
+    }
+
+    /**
+     * Method to measure the serialization of an {@link InlineKeyboardMarkup} <br>
+     * No-any params required
+     *
+     * @return the keyboard serialized as {@link String}
+     */
+    @Benchmark
+    public String inlineKeyboard() {
+        return inlineKeyboard.toString();
+    }
+
+    /**
+     * Method to measure the serialization of a {@link ReplyKeyboardMarkup} <br>
+     * No-any params required
+     *
+     * @return the keyboard serialized as {@link String}
+     */
+    @Benchmark
+    public String replyKeyboard() {
+        return replyKeyboard.toString();
+    }
+
+    /**
+     * Method to measure the serialization of the results of an inline query answer <br>
+     * No-any params required
+     *
+     * @return the results serialized as {@link String}
+     */
+    @Benchmark
+    public String inlineQueryResults() {
+        return results.toString();
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.tecknobit.telegrammanager.botapi.managers;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The {@code TelegramExecutors} class is useful to create the executors used by the library to run the requests and
+ * the handlers in background
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote when the library runs on a JDK that supports the virtual threads (JDK 21+) the executors created will use
+ * them, otherwise will be used daemon platform threads
+ */
+public final class TelegramExecutors {
+
+    /**
+     * {@code virtualThreadsSupported} whether the current JDK supports the virtual threads
+     */
+    private static final boolean virtualThreadsSupported;
+
+    static {
+        boolean supported;
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            supported = true;
+        } catch (NoSuchMethodException e) {
+            supported = false;
+        }
+        virtualThreadsSupported = supported;
+    }
+
+    /**
+     * Constructor to init {@link TelegramExecutors} <br>
+     * No-any params required
+     *
+     * @apiNote this class cannot be instantiated
+     */
+    private TelegramExecutors() {
+    }
+
+    /**
+     * Method to create an executor which runs each task in a new thread
+     *
+     * @param name: the name prefix of the threads created by the executor
+     * @return executor as {@link ExecutorService}
+     * @apiNote on JDK 21+ each task will be run in a new virtual thread, otherwise the platform threads created will be
+     * reused when idle
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String name) {
+        if (virtualThreadsSupported) {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException ignored) {
+            }
+        }
+        return Executors.newCachedThreadPool(newDaemonThreadFactory(name));
+    }
+
+    /**
+     * Method to create a factory of daemon platform threads
+     *
+     * @param name: the name prefix of the threads created
+     * @return factory as {@link ThreadFactory}
+     */
+    public static ThreadFactory newDaemonThreadFactory(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Method to get {@link #virtualThreadsSupported} instance <br>
+     * No-any params required
+     *
+     * @return {@link #virtualThreadsSupported} instance as boolean
+     */
+    public static boolean areVirtualThreadsSupported() {
+        return virtualThreadsSupported;
+    }
+
+}
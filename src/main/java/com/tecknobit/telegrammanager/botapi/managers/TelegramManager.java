@@ -5,12 +5,34 @@ import com.tecknobit.apimanager.annotations.Wrapper;
 import com.tecknobit.apimanager.apis.APIRequest;
 import com.tecknobit.apimanager.apis.APIRequest.RequestMethod;
 import com.tecknobit.apimanager.formatters.JsonHelper;
+import com.tecknobit.telegrammanager.botapi.managers.requests.BodyEncoding;
+import com.tecknobit.telegrammanager.botapi.managers.requests.BotApiServer;
+import com.tecknobit.telegrammanager.botapi.managers.requests.FileIdsCache;
+import com.tecknobit.telegrammanager.botapi.managers.requests.FloodController;
+import com.tecknobit.telegrammanager.botapi.managers.requests.HttpTransport;
+import com.tecknobit.telegrammanager.botapi.managers.requests.InputFile;
+import com.tecknobit.telegrammanager.botapi.managers.requests.MultipartBody;
+import com.tecknobit.telegrammanager.botapi.managers.requests.RequestCoalescer;
+import com.tecknobit.telegrammanager.botapi.managers.requests.TelegramResponse;
 import com.tecknobit.telegrammanager.botapi.records.basetypes.message.Message;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 import static com.tecknobit.apimanager.apis.APIRequest.DEFAULT_ERROR_RESPONSE;
 import static com.tecknobit.apimanager.apis.APIRequest.DEFAULT_REQUEST_TIMEOUT;
@@ -29,9 +51,10 @@ import static java.lang.Integer.parseInt;
 public class TelegramManager {
 
     /**
-     * {@code BASE_BOT_ENDPOINT} of the {@code Telegram}'s Bot API service
+     * {@code DEFAULT_MAX_FLOOD_RETRIES} default maximum number of times that a request is repeated after a
+     * {@code "retry_after"} value
      */
-    public static final String BASE_BOT_ENDPOINT = "https://api.telegram.org/bot";
+    public static final int DEFAULT_MAX_FLOOD_RETRIES = 3;
 
     /**
      * {@code properties} is a local instance used to instantiate a new {@link TelegramManager}'s manager without
@@ -40,15 +63,94 @@ public class TelegramManager {
     protected static final Properties properties = new Properties();
 
     /**
-     * {@code apiRequest} instance to make the request
+     * {@code DEFAULT_ASYNC_EXECUTOR} the executor used by default to run the asynchronous requests
+     *
+     * @apiNote on JDK 21+ each asynchronous request is run in a new virtual thread
      */
-    protected final APIRequest apiRequest;
+    private static final Executor DEFAULT_ASYNC_EXECUTOR = TelegramExecutors.newThreadPerTaskExecutor("telegram-async");
 
     /**
      * {@code token} the bot unique authentication token
      */
     protected final String token;
 
+    /**
+     * {@code defaultErrorMessage} error message to return if is not request error
+     */
+    protected final String defaultErrorMessage;
+
+    /**
+     * {@code requestTimeout} timeout for the requests
+     */
+    protected final int requestTimeout;
+
+    /**
+     * {@code threadResponses} the last response received by each thread, returned by {@link #getLastResponse()} when
+     * the {@link #concurrentMode} is enabled
+     */
+    private final ThreadLocal<TelegramResponse> threadResponses = new ThreadLocal<>();
+
+    /**
+     * {@code lastResponse} the last response received when the {@link #concurrentMode} is disabled
+     */
+    private volatile TelegramResponse lastResponse;
+
+    /**
+     * {@code concurrentMode} whether the manager can be shared between more threads
+     *
+     * @apiNote when enabled the last response of each thread is kept in the {@link #threadResponses}, so the response,
+     * the status code and the error of a request are not overwritten by the requests of the other threads
+     */
+    private volatile boolean concurrentMode;
+
+    /**
+     * {@code asyncExecutor} the executor used to run the asynchronous requests
+     */
+    private volatile Executor asyncExecutor = DEFAULT_ASYNC_EXECUTOR;
+
+    /**
+     * {@code floodController} the controller used to respect the flood limits
+     *
+     * @apiNote by default is used the controller shared by all the managers with the same {@link #token}
+     */
+    private volatile FloodController floodController;
+
+    /**
+     * {@code maxFloodRetries} the maximum number of times that a request is repeated after a {@code "retry_after"} value
+     */
+    private volatile int maxFloodRetries = DEFAULT_MAX_FLOOD_RETRIES;
+
+    /**
+     * {@code transport} the transport used to send the requests
+     *
+     * @apiNote by default is used the transport shared by all the managers with the same {@link #token}
+     */
+    private volatile HttpTransport transport;
+
+    /**
+     * {@code botApiServer} the server where the requests are sent
+     *
+     * @apiNote by default is used the official server of {@code Telegram}
+     */
+    private volatile BotApiServer botApiServer = BotApiServer.TELEGRAM;
+
+    /**
+     * {@code bodyEncoding} how the params of the requests are sent
+     *
+     * @apiNote by default the params are sent in the query string
+     */
+    private volatile BodyEncoding bodyEncoding = BodyEncoding.QUERY_STRING;
+
+    /**
+     * {@code requestCoalescer} the coalescer of the identical read requests, can be {@code "null"}
+     */
+    private volatile RequestCoalescer requestCoalescer;
+
+    /**
+     * {@code fileIdsCache} the cache used to reuse the identifiers of the media already sent, can be {@code "null"}
+     */
+    private volatile FileIdsCache fileIdsCache;
+
     /**
      * Constructor to init {@link TelegramManager}
      *
@@ -87,7 +189,10 @@ public class TelegramManager {
      */
     public TelegramManager(String token, String defaultErrorMessage, int requestTimeout) {
         this.token = token;
-        apiRequest = new APIRequest(defaultErrorMessage, requestTimeout);
+        this.defaultErrorMessage = defaultErrorMessage;
+        this.requestTimeout = requestTimeout;
+        floodController = FloodController.getInstance(token);
+        transport = HttpTransport.getInstance(token);
         storeProperties(token, defaultErrorMessage, requestTimeout);
     }
 
@@ -111,8 +216,10 @@ public class TelegramManager {
         token = properties.getProperty("token");
         if (token == null)
             throw new Exception("You need to call a parameterized constructor first");
-        apiRequest = new APIRequest(properties.getProperty("defaultErrorResponse", DEFAULT_ERROR_RESPONSE),
-                parseInt(properties.getProperty("requestTimeout", DEFAULT_REQUEST_TIMEOUT + "")));
+        defaultErrorMessage = properties.getProperty("defaultErrorMessage", DEFAULT_ERROR_RESPONSE);
+        requestTimeout = parseInt(properties.getProperty("requestTimeout", DEFAULT_REQUEST_TIMEOUT + ""));
+        floodController = FloodController.getInstance(token);
+        transport = HttpTransport.getInstance(token);
     }
 
     /**
@@ -149,7 +256,7 @@ public class TelegramManager {
     public String sendPostRequest(String methodName, Params payload) throws IOException {
         if (payload == null)
             payload = new Params();
-        return sendRequest(methodName + payload.createQueryString(), POST);
+        return sendRequest(methodName, payload, POST, null);
     }
 
     /**
@@ -173,19 +280,494 @@ public class TelegramManager {
     public String sendGetRequest(String methodName, Params query) throws IOException {
         if (query == null)
             query = new Params();
-        return sendRequest(methodName + query.createQueryString(), GET);
+        return sendRequest(methodName, query, GET, null);
     }
 
     /**
      * Method to execute and get response of a request
      *
+     * @param methodName:  the method where make the request
+     * @param params:      params of the request
+     * @param method:      method for the request
+     * @param contentType: the content type of the request, can be {@code "null"}
+     * @return response of request formatted in JSON as {@link String}
+     * @apiNote if the {@link #floodController} is set, the request waits until it can be sent without exceeding the
+     * flood limits and, when {@code Telegram} answers with a {@code "retry_after"} value, it is repeated at most
+     * {@link #maxFloodRetries} times after the time requested. When the params contain any {@link InputFile} the request
+     * is sent as a streamed {@code multipart/form-data} request
+     */
+    protected String sendRequest(String methodName, Params params, RequestMethod method,
+                                 String contentType) throws IOException {
+        TelegramResponse response = executeTelegramRequest(methodName, params, method, contentType);
+        if (!response.isSuccessful())
+            throw new IOException(response.getErrorResponse());
+        return response.getResponse();
+    }
+
+    /**
+     * Method to execute and get response of a GET request which does not change the state of the bot or of the chats,
+     * if the {@link #requestCoalescer} is set the identical requests executed at the same time share the same response
+     *
      * @param methodName: the method where make the request
-     * @param method:     method for the request
+     * @param query:      query params of the request
      * @return response of request formatted in JSON as {@link String}
      */
-    private String sendRequest(String methodName, RequestMethod method) throws IOException {
-        apiRequest.sendAPIRequest(BASE_BOT_ENDPOINT + token + "/" + methodName, method);
-        return apiRequest.getResponse();
+    protected String sendCoalescedGetRequest(String methodName, Params query) throws IOException {
+        RequestCoalescer coalescer = requestCoalescer;
+        if (coalescer == null)
+            return sendGetRequest(methodName, query);
+        if (query == null)
+            query = new Params();
+        Params params = query;
+        TelegramResponse response = coalescer.execute(createRequestKey(methodName, params),
+                () -> executeTelegramRequest(methodName, params, GET, null));
+        storeResponse(response);
+        if (!response.isSuccessful())
+            throw new IOException(response.getErrorResponse());
+        return response.getResponse();
+    }
+
+    /**
+     * Method to create the key which identifies a request
+     *
+     * @param methodName: the method where make the request
+     * @param params:     params of the request
+     * @return key as {@link String}
+     */
+    protected String createRequestKey(String methodName, Params params) {
+        StringBuilder key = new StringBuilder(methodName);
+        for (Map.Entry<String, Object> param : params.getParamValues().entrySet())
+            key.append('&').append(param.getKey()).append('=').append(param.getValue());
+        return key.toString();
+    }
+
+    /**
+     * Method to execute a request
+     *
+     * @param methodName:  the method where make the request
+     * @param params:      params of the request
+     * @param method:      method for the request
+     * @param contentType: the content type of the request, can be {@code "null"}
+     * @return response of the request, also when it has been go wrong, as {@link TelegramResponse}
+     * @throws IOException when the request has not been answered
+     * @apiNote see {@link #sendRequest(String, Params, RequestMethod, String)} to know how the requests are sent
+     */
+    protected TelegramResponse executeTelegramRequest(String methodName, Params params, RequestMethod method,
+                                                      String contentType) throws IOException {
+        Object chatId = params.getParamValue("chat_id");
+        if (params.hasInputFiles())
+            params = prepareUploads(params);
+        boolean multipart = params.hasInputFiles();
+        boolean repeatable = !multipart || params.areInputFilesRepeatable();
+        int retries = 0;
+        while (true) {
+            FloodController controller = floodController;
+            if (controller != null)
+                controller.acquire(methodName, chatId);
+            TelegramResponse response;
+            if (multipart)
+                response = executeMultipartRequest(methodName, params);
+            else
+                response = executeRequest(methodName, params, method, contentType);
+            storeResponse(response);
+            long retryAfter = -1;
+            if (controller != null && repeatable && retries < maxFloodRetries)
+                retryAfter = response.getRetryAfter();
+            if (retryAfter < 0)
+                return response;
+            controller.pause(chatId, retryAfter);
+            retries++;
+        }
+    }
+
+    /**
+     * Method to prepare the files to upload for the {@link #botApiServer}
+     *
+     * @param params: params of the request with the files to upload
+     * @return params to send as {@link Params}
+     * @throws IOException when a file on the disk cannot be read or exceeds the maximum size of the uploads
+     * @apiNote when the {@link #botApiServer} runs in local mode, the files on the disk are sent with their absolute
+     * path instead of being uploaded
+     */
+    private Params prepareUploads(Params params) throws IOException {
+        BotApiServer server = botApiServer;
+        Params uploads = new Params();
+        for (Map.Entry<String, Object> param : params.getParamValues().entrySet()) {
+            Object value = param.getValue();
+            if (value instanceof InputFile file) {
+                Path path = file.getPath();
+                if (path != null && Files.size(path) > server.getMaxUploadSize()) {
+                    throw new IOException("The file " + path + " exceeds the maximum size of "
+                            + server.getMaxUploadSize() + " bytes of the uploads to " + server);
+                }
+                value = server.toUploadValue(file);
+            }
+            uploads.addParam(param.getKey(), value);
+        }
+        return uploads;
+    }
+
+    /**
+     * Method to execute a request with the {@link #transport} of the manager
+     *
+     * @param methodName:  the method where make the request
+     * @param params:      params of the request
+     * @param method:      method for the request
+     * @param contentType: the content type of the request, can be {@code "null"}
+     * @return response of the request as {@link TelegramResponse}
+     * @apiNote when the {@link #bodyEncoding} sends the params in the body, the content type of the body is used
+     */
+    private TelegramResponse executeRequest(String methodName, Params params, RequestMethod method,
+                                            String contentType) throws IOException {
+        BodyEncoding encoding = bodyEncoding;
+        if (method != GET && encoding != BodyEncoding.QUERY_STRING) {
+            HttpRequest request = newRequest(createMethodUrl(methodName))
+                    .header("Content-Type", encoding.getContentType())
+                    .method(method.name(), encoding.toBodyPublisher(params.getParamValues()))
+                    .build();
+            return sendTelegramRequest(request);
+        }
+        HttpRequest.Builder request = newRequest(createMethodUrl(methodName)
+                + params.createQueryString());
+        if (method == GET)
+            request.GET();
+        else
+            request.method(method.name(), HttpRequest.BodyPublishers.noBody());
+        if (contentType != null)
+            request.header("Content-Type", contentType);
+        return sendTelegramRequest(request.build());
+    }
+
+    /**
+     * Method to execute a streamed {@code multipart/form-data} request
+     *
+     * @param methodName: the method where make the request
+     * @param params:     params of the request, the {@link InputFile} values are sent as files
+     * @return response of the request as {@link TelegramResponse}
+     */
+    private TelegramResponse executeMultipartRequest(String methodName, Params params) throws IOException {
+        MultipartBody body = new MultipartBody();
+        for (Map.Entry<String, Object> param : params.getParamValues().entrySet()) {
+            Object value = param.getValue();
+            if (value instanceof InputFile file)
+                body.addFile(param.getKey(), file);
+            else if (value != null)
+                body.addField(param.getKey(), value);
+        }
+        HttpRequest request = newRequest(createMethodUrl(methodName))
+                .header("Content-Type", body.getContentType())
+                .POST(body.toBodyPublisher())
+                .build();
+        return sendTelegramRequest(request);
+    }
+
+    /**
+     * Method to send a request with the {@link #transport} of the manager and read its response as text
+     *
+     * @param request: the request to send
+     * @return response of the request as {@link TelegramResponse}
+     */
+    private TelegramResponse sendTelegramRequest(HttpRequest request) throws IOException {
+        HttpResponse<String> response;
+        try {
+            response = transport.send(request, BodyHandlers.ofString());
+        } catch (IOException e) {
+            storeResponse(new TelegramResponse(-1, null, defaultErrorMessage));
+            throw e;
+        }
+        int statusCode = response.statusCode();
+        if (statusCode >= 200 && statusCode < 300)
+            return new TelegramResponse(statusCode, response.body(), null);
+        return new TelegramResponse(statusCode, null, response.body());
+    }
+
+    /**
+     * Method to create the url of a method of the {@link #botApiServer}
+     *
+     * @param methodName: the method where make the request
+     * @return url of the method as {@link String}
+     */
+    protected String createMethodUrl(String methodName) {
+        return botApiServer.getBotEndpoint(token) + methodName;
+    }
+
+    /**
+     * Method to create the url of a file of the {@link #botApiServer}
+     *
+     * @param filePath: the path of the file returned by {@code getFile}
+     * @return url of the file as {@link String}
+     */
+    protected String createFileUrl(String filePath) {
+        return botApiServer.getFileEndpoint(token) + filePath;
+    }
+
+    /**
+     * Method to create the builder of a request sent with the {@link #transport} of the manager
+     *
+     * @param url: the url of the request
+     * @return builder of the request as {@link HttpRequest.Builder}
+     * @apiNote when the {@link #transport} has no read timeout, the {@link #requestTimeout} is used
+     */
+    protected HttpRequest.Builder newRequest(String url) {
+        HttpTransport transport = this.transport;
+        HttpRequest.Builder request = transport.newRequest(URI.create(url));
+        if (transport.getReadTimeout() == null)
+            request.timeout(Duration.ofMillis(requestTimeout));
+        return request;
+    }
+
+    /**
+     * Method to get {@link #transport} instance <br>
+     * No-any params required
+     *
+     * @return {@link #transport} instance as {@link HttpTransport}
+     */
+    public HttpTransport getTransport() {
+        return transport;
+    }
+
+    /**
+     * Method to set {@link #transport} instance
+     *
+     * @param transport: the transport to use to send the requests, if {@code "null"} will be used the transport
+     *                   shared by all the managers with the same {@link #token}
+     */
+    public void setTransport(HttpTransport transport) {
+        if (transport == null)
+            transport = HttpTransport.getInstance(token);
+        this.transport = transport;
+    }
+
+    /**
+     * Method to get {@link #botApiServer} instance <br>
+     * No-any params required
+     *
+     * @return {@link #botApiServer} instance as {@link BotApiServer}
+     */
+    public BotApiServer getBotApiServer() {
+        return botApiServer;
+    }
+
+    /**
+     * Method to set {@link #botApiServer} instance
+     *
+     * @param botApiServer: the server where send the requests, if {@code "null"} will be used the official server
+     *                      of {@code Telegram}
+     * @apiNote the bot must be logged out from the official server with {@code "logOut"} before using a self-hosted
+     * server
+     */
+    public void setBotApiServer(BotApiServer botApiServer) {
+        if (botApiServer == null)
+            botApiServer = BotApiServer.TELEGRAM;
+        this.botApiServer = botApiServer;
+    }
+
+    /**
+     * Method to get {@link #bodyEncoding} instance <br>
+     * No-any params required
+     *
+     * @return {@link #bodyEncoding} instance as {@link BodyEncoding}
+     */
+    public BodyEncoding getBodyEncoding() {
+        return bodyEncoding;
+    }
+
+    /**
+     * Method to set {@link #bodyEncoding} instance
+     *
+     * @param bodyEncoding: how the params of the requests are sent, if {@code "null"} the params are sent in the
+     *                      query string
+     * @apiNote sending the params in the body avoids the limits of length of the url and keeps the content of the
+     * requests out of the logs of the proxies, the {@code GET} requests always send their params in the query string
+     */
+    public void setBodyEncoding(BodyEncoding bodyEncoding) {
+        if (bodyEncoding == null)
+            bodyEncoding = BodyEncoding.QUERY_STRING;
+        this.bodyEncoding = bodyEncoding;
+    }
+
+    /**
+     * Method to store the last response received
+     *
+     * @param response: the response to store
+     */
+    protected void storeResponse(TelegramResponse response) {
+        threadResponses.set(response);
+        if (!concurrentMode)
+            lastResponse = response;
+    }
+
+    /**
+     * Method to get the last response received <br>
+     * No-any params required
+     *
+     * @return the last response received by the current thread if the {@link #concurrentMode} is enabled, the last
+     * response received by the manager otherwise, as {@link TelegramResponse}
+     */
+    public TelegramResponse getLastResponse() {
+        if (concurrentMode)
+            return threadResponses.get();
+        return lastResponse;
+    }
+
+    /**
+     * Method to get the last response received by the current thread, whatever the {@link #concurrentMode} is <br>
+     * No-any params required
+     *
+     * @return the last response received by the current thread as {@link TelegramResponse}, {@code "null"} if the
+     * current thread has not executed any request
+     * @apiNote useful to read the result of a request executed on a thread of the library, like the threads of the
+     * {@link #asyncExecutor}, without the results of the requests executed by the other threads
+     */
+    public TelegramResponse getThreadResponse() {
+        return threadResponses.get();
+    }
+
+    /**
+     * Method to get {@link #floodController} instance <br>
+     * No-any params required
+     *
+     * @return {@link #floodController} instance as {@link FloodController}
+     */
+    public FloodController getFloodController() {
+        return floodController;
+    }
+
+    /**
+     * Method to set {@link #floodController} instance
+     *
+     * @param floodController: the controller to use to respect the flood limits, {@code "null"} to disable it
+     * @apiNote the same controller can be shared by more managers which use the same token
+     */
+    public void setFloodController(FloodController floodController) {
+        this.floodController = floodController;
+    }
+
+    /**
+     * Method to get {@link #requestCoalescer} instance <br>
+     * No-any params required
+     *
+     * @return {@link #requestCoalescer} instance as {@link RequestCoalescer}
+     */
+    public RequestCoalescer getRequestCoalescer() {
+        return requestCoalescer;
+    }
+
+    /**
+     * Method to set {@link #requestCoalescer} instance
+     *
+     * @param requestCoalescer: the coalescer of the identical read requests, {@code "null"} to disable it
+     * @apiNote the same coalescer can be shared by more managers of the same bot
+     */
+    public void setRequestCoalescer(RequestCoalescer requestCoalescer) {
+        this.requestCoalescer = requestCoalescer;
+    }
+
+    /**
+     * Method to get {@link #fileIdsCache} instance <br>
+     * No-any params required
+     *
+     * @return {@link #fileIdsCache} instance as {@link FileIdsCache}
+     */
+    public FileIdsCache getFileIdsCache() {
+        return fileIdsCache;
+    }
+
+    /**
+     * Method to set {@link #fileIdsCache} instance
+     *
+     * @param fileIdsCache: the cache to use to reuse the identifiers of the media already sent, {@code "null"} to
+     *                      disable it
+     * @apiNote the same cache can be shared by more managers of the same bot
+     */
+    public void setFileIdsCache(FileIdsCache fileIdsCache) {
+        this.fileIdsCache = fileIdsCache;
+    }
+
+    /**
+     * Method to set {@link #maxFloodRetries} instance
+     *
+     * @param maxFloodRetries: the maximum number of times that a request is repeated after a {@code "retry_after"} value
+     */
+    public void setMaxFloodRetries(int maxFloodRetries) {
+        this.maxFloodRetries = maxFloodRetries;
+    }
+
+    /**
+     * Method to get {@link #concurrentMode} instance <br>
+     * No-any params required
+     *
+     * @return {@link #concurrentMode} instance as boolean
+     */
+    public boolean isConcurrentMode() {
+        return concurrentMode;
+    }
+
+    /**
+     * Method to set {@link #concurrentMode} instance
+     *
+     * @param concurrentMode: whether the manager can be shared between more threads
+     * @apiNote when enabled the methods {@link #getLastResponse()}, {@link #getErrorResponse()},
+     * {@link #getJSONErrorResponse()}, {@link #printErrorResponse()} and {@link #getStatusCode()} return the details
+     * of the last request executed by the current thread, kept in the {@link #threadResponses}
+     */
+    public void setConcurrentMode(boolean concurrentMode) {
+        this.concurrentMode = concurrentMode;
+    }
+
+    /**
+     * Method to execute a request asynchronously on the {@link #asyncExecutor}
+     *
+     * @param request: the request to execute, for example {@code () -> manager.getChat(chatId, JSON)}
+     * @return the result of the request, formatted as the {@link ReturnFormat} used by the request defines, as
+     * {@link CompletableFuture}
+     * @apiNote if the request fails the future is completed exceptionally with an {@link IOException} which has as
+     * message the error response of that request. The {@link #concurrentMode} is not changed: when it is disabled, the
+     * asynchronous requests overwrite the last response of the manager like the other requests
+     */
+    public <T> CompletableFuture<T> async(ManagerRequest<T> request) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            asyncExecutor.execute(() -> {
+                threadResponses.remove();
+                try {
+                    future.complete(request.execute());
+                } catch (IOException e) {
+                    TelegramResponse response = threadResponses.get();
+                    if (response != null)
+                        future.completeExceptionally(new IOException(response.getErrorResponse(), e));
+                    else
+                        future.completeExceptionally(e);
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Method to get {@link #asyncExecutor} instance <br>
+     * No-any params required
+     *
+     * @return {@link #asyncExecutor} instance as {@link Executor}
+     */
+    public Executor getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
+    /**
+     * Method to set {@link #asyncExecutor} instance
+     *
+     * @param asyncExecutor: the executor to use to run the asynchronous requests, if {@code "null"} will be used the
+     *                       default executor
+     */
+    public void setAsyncExecutor(Executor asyncExecutor) {
+        if (asyncExecutor == null)
+            asyncExecutor = DEFAULT_ASYNC_EXECUTOR;
+        this.asyncExecutor = asyncExecutor;
     }
 
     /**
@@ -240,7 +822,10 @@ public class TelegramManager {
      * @return error response of the request formatted as {@link String}
      */
     public String getErrorResponse() {
-        return apiRequest.getErrorResponse();
+        TelegramResponse response = getLastResponse();
+        if (response == null)
+            return null;
+        return response.getErrorResponse();
     }
 
     /**
@@ -250,7 +835,10 @@ public class TelegramManager {
      * @return error response of the request formatted as {@link T}
      */
     public <T> T getJSONErrorResponse() {
-        return apiRequest.getJSONErrorResponse();
+        TelegramResponse response = getLastResponse();
+        if (response == null)
+            return null;
+        return response.getJSONErrorResponse();
     }
 
     /**
@@ -258,7 +846,7 @@ public class TelegramManager {
      * Any params required
      */
     public void printErrorResponse() {
-        apiRequest.printErrorResponse();
+        System.out.println(getErrorResponse());
     }
 
     /**
@@ -268,7 +856,30 @@ public class TelegramManager {
      * @return response code of the request as int
      */
     public int getStatusCode() {
-        return apiRequest.getResponseStatusCode();
+        TelegramResponse response = getLastResponse();
+        if (response == null)
+            return -1;
+        return response.getStatusCode();
+    }
+
+    /**
+     * The {@code ManagerRequest} interface is useful to wrap a request of a manager to execute it asynchronously
+     *
+     * @param <T> the type of the result of the request
+     * @see #async(ManagerRequest)
+     */
+    @FunctionalInterface
+    public interface ManagerRequest<T> {
+
+        /**
+         * Method to execute the request <br>
+         * No-any params required
+         *
+         * @return the result of the request
+         * @throws Exception when the request has been go wrong
+         */
+        T execute() throws Exception;
+
     }
 
     /**
@@ -304,6 +915,82 @@ public class TelegramManager {
      * @see APIRequest.Params
      */
     public static class Params extends APIRequest.Params {
+
+        /**
+         * {@code values} the values of the params added
+         */
+        private final LinkedHashMap<String, Object> values = new LinkedHashMap<>();
+
+        /**
+         * Method to add a param
+         *
+         * @param key:   the key of the param
+         * @param value: the value of the param
+         */
+        @Override
+        public void addParam(String key, Object value) {
+            super.addParam(key, value);
+            values.put(key, value);
+        }
+
+        /**
+         * Method to create a copy of the params <br>
+         * No-any params required
+         *
+         * @return copy of the params as {@link Params}
+         */
+        public Params copy() {
+            Params params = new Params();
+            values.forEach(params::addParam);
+            return params;
+        }
+
+        /**
+         * Method to get the values of the params added <br>
+         * No-any params required
+         *
+         * @return values of the params as unmodifiable {@link Map}
+         */
+        public Map<String, Object> getParamValues() {
+            return Collections.unmodifiableMap(values);
+        }
+
+        /**
+         * Method to get whether any param is a file to upload <br>
+         * No-any params required
+         *
+         * @return whether any param is an {@link InputFile} as boolean
+         */
+        public boolean hasInputFiles() {
+            for (Object value : values.values())
+                if (value instanceof InputFile)
+                    return true;
+            return false;
+        }
+
+        /**
+         * Method to get whether all the files to upload can be read more times <br>
+         * No-any params required
+         *
+         * @return whether all the {@link InputFile} params are repeatable as boolean
+         */
+        public boolean areInputFilesRepeatable() {
+            for (Object value : values.values())
+                if (value instanceof InputFile file && !file.isRepeatable())
+                    return false;
+            return true;
+        }
+
+        /**
+         * Method to get the value of a param
+         *
+         * @param key: the key of the param
+         * @return the value of the param as {@link Object}, {@code "null"} if the param has not been added
+         */
+        public Object getParamValue(String key) {
+            return values.get(key);
+        }
+
     }
 
 }
@@ -0,0 +1,68 @@
+package com.tecknobit.telegrammanager.botapi.managers.broadcast;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * The {@code BroadcastCheckpoint} interface is useful to persist the progress of a broadcast, so it can be resumed
+ * after a crash
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see BroadcastEngine
+ */
+public interface BroadcastCheckpoint {
+
+    /**
+     * Method to load the progress of the broadcast <br>
+     * No-any params required
+     *
+     * @return the number of chats from the start of the list already processed as long, {@code "0"} if the broadcast
+     * has not been started yet
+     * @throws IOException when the checkpoint cannot be read
+     */
+    long load() throws IOException;
+
+    /**
+     * Method to store the progress of the broadcast
+     *
+     * @param position: the number of chats from the start of the list already processed
+     * @throws IOException when the checkpoint cannot be written
+     */
+    void store(long position) throws IOException;
+
+    /**
+     * Method to create a checkpoint stored in a file
+     *
+     * @param path: the path of the file
+     * @return checkpoint as {@link BroadcastCheckpoint}
+     * @apiNote the file is replaced atomically, so after a crash it contains the last progress completely stored
+     */
+    static BroadcastCheckpoint ofFile(Path path) {
+        return new BroadcastCheckpoint() {
+
+            @Override
+            public long load() throws IOException {
+                if (!Files.exists(path))
+                    return 0;
+                String position = Files.readString(path, UTF_8).trim();
+                if (position.isEmpty())
+                    return 0;
+                return Long.parseLong(position);
+            }
+
+            @Override
+            public void store(long position) throws IOException {
+                Path tmpPath = path.resolveSibling(path.getFileName() + ".tmp");
+                Files.writeString(tmpPath, String.valueOf(position), UTF_8);
+                Files.move(tmpPath, path, REPLACE_EXISTING, ATOMIC_MOVE);
+            }
+
+        };
+    }
+
+}
@@ -0,0 +1,413 @@
+package com.tecknobit.telegrammanager.botapi.managers.broadcast;
+
+import com.tecknobit.telegrammanager.botapi.managers.TelegramExecutors;
+import com.tecknobit.telegrammanager.botapi.managers.TelegramManager;
+import com.tecknobit.telegrammanager.botapi.managers.TelegramManager.Params;
+import com.tecknobit.telegrammanager.botapi.managers.broadcast.BroadcastFailure.FailureType;
+import com.tecknobit.telegrammanager.botapi.managers.requests.FloodController;
+import com.tecknobit.telegrammanager.botapi.managers.requests.TelegramResponse;
+
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static com.tecknobit.telegrammanager.botapi.managers.identifiers.content.ContentManager.SEND_MESSAGE_ENDPOINT;
+
+/**
+ * The {@code BroadcastEngine} class is useful to send the same message to a large list of chats. The messages are sent
+ * by more workers at the maximum rate allowed by the {@link FloodController} of the manager, the progress is stored in
+ * a {@link BroadcastCheckpoint} and the messages not delivered are notified to the sink of their {@link FailureType}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote to resume a broadcast the list of the chats must be provided in the same order, the chats already processed
+ * are skipped. The messages sent to the chats processed after the last checkpoint stored could be sent again after a
+ * crash. When a group has been migrated to a supergroup, the message is sent again to the supergroup
+ * @see BroadcastFailure
+ */
+public class BroadcastEngine {
+
+    /**
+     * {@code DEFAULT_WORKERS} default number of messages sent at the same time
+     */
+    public static final int DEFAULT_WORKERS = 16;
+
+    /**
+     * {@code DEFAULT_CHECKPOINT_INTERVAL} default number of chats processed between two checkpoints
+     */
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 100;
+
+    /**
+     * {@code MAX_CHECKPOINT_FAILURES} number of consecutive failed writes of the checkpoint after which the broadcast
+     * is stopped
+     */
+    public static final int MAX_CHECKPOINT_FAILURES = 3;
+
+    /**
+     * {@code manager} the manager used to send the messages
+     */
+    private final TelegramManager manager;
+
+    /**
+     * {@code methodName} the method used to send the messages
+     */
+    private final String methodName;
+
+    /**
+     * {@code template} params of the message to send, without the {@code "chat_id"}
+     */
+    private final Params template;
+
+    /**
+     * {@code checkpoint} the checkpoint where the progress is stored, can be {@code "null"}
+     */
+    private final BroadcastCheckpoint checkpoint;
+
+    /**
+     * {@code workers} number of messages sent at the same time
+     */
+    private final int workers;
+
+    /**
+     * {@code checkpointInterval} number of chats processed between two checkpoints
+     */
+    private final int checkpointInterval;
+
+    /**
+     * {@code failureSinks} the sinks of the messages not delivered for each type of failure
+     */
+    private final EnumMap<FailureType, Consumer<BroadcastFailure>> failureSinks;
+
+    /**
+     * {@code sentCount} number of messages delivered
+     */
+    private final AtomicLong sentCount;
+
+    /**
+     * {@code failedCount} number of messages not delivered
+     */
+    private final AtomicLong failedCount;
+
+    /**
+     * {@code processed} the chats processed after the {@link #position}, relative to it
+     */
+    private BitSet processed;
+
+    /**
+     * {@code position} the number of chats from the start of the list already processed
+     */
+    private long position;
+
+    /**
+     * {@code storedPosition} the last position stored in the {@link #checkpoint}
+     */
+    private long storedPosition;
+
+    /**
+     * {@code checkpointFailures} number of consecutive failed writes of the checkpoint
+     */
+    private int checkpointFailures;
+
+    /**
+     * {@code checkpointError} the error which stopped the broadcast, {@code "null"} if the checkpoint has been written
+     */
+    private IOException checkpointError;
+
+    /**
+     * {@code running} whether the broadcast is running
+     */
+    private volatile boolean running;
+
+    /**
+     * {@code errorListener} the listener of the errors occurred in the sinks or while writing the checkpoint
+     */
+    private volatile Consumer<Exception> errorListener;
+
+    /**
+     * Constructor to init {@link BroadcastEngine} to broadcast a text message
+     *
+     * @param manager:    the manager used to send the messages
+     * @param text:       text of the message to send
+     * @param checkpoint: the checkpoint where the progress is stored, can be {@code "null"}
+     */
+    public BroadcastEngine(TelegramManager manager, String text, BroadcastCheckpoint checkpoint) {
+        this(manager, SEND_MESSAGE_ENDPOINT, createTextTemplate(text), checkpoint, DEFAULT_WORKERS,
+                DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Constructor to init {@link BroadcastEngine}
+     *
+     * @param manager:            the manager used to send the messages
+     * @param methodName:         the method used to send the messages, for example {@code "sendPhoto"}
+     * @param template:           params of the message to send, without the {@code "chat_id"}
+     * @param checkpoint:         the checkpoint where the progress is stored, can be {@code "null"}
+     * @param workers:            number of messages sent at the same time
+     * @param checkpointInterval: number of chats processed between two checkpoints
+     * @apiNote the failures are read from {@link TelegramManager#getThreadResponse()}, so the manager can be shared
+     * also when its concurrent mode is disabled. The files of the template should be sent with their {@code file_id}
+     * to not upload them for each chat
+     */
+    public BroadcastEngine(TelegramManager manager, String methodName, Params template, BroadcastCheckpoint checkpoint,
+                           int workers, int checkpointInterval) {
+        if (workers <= 0)
+            throw new IllegalArgumentException("The workers value must be positive");
+        if (checkpointInterval <= 0)
+            throw new IllegalArgumentException("The checkpoint interval value must be positive");
+        this.manager = manager;
+        this.methodName = methodName;
+        if (template == null)
+            template = new Params();
+        this.template = template;
+        this.checkpoint = checkpoint;
+        this.workers = workers;
+        this.checkpointInterval = checkpointInterval;
+        failureSinks = new EnumMap<>(FailureType.class);
+        sentCount = new AtomicLong();
+        failedCount = new AtomicLong();
+        errorListener = Throwable::printStackTrace;
+    }
+
+    /**
+     * Method to create the template of a text message
+     *
+     * @param text: text of the message to send
+     * @return template as {@link Params}
+     */
+    private static Params createTextTemplate(String text) {
+        Params template = new Params();
+        template.addParam("text", text);
+        return template;
+    }
+
+    /**
+     * Method to run the broadcast, this method waits until all the chats have been processed or the broadcast has
+     * been stopped
+     *
+     * @param chatIds: the identifiers of the chats which send the message to
+     * @return number of messages delivered in this run as long
+     * @throws IOException          when the checkpoint cannot be read or written, also when the broadcast has been
+     *                              stopped after {@link #MAX_CHECKPOINT_FAILURES} consecutive failed writes of the
+     *                              checkpoint
+     * @throws InterruptedException when the current thread is interrupted while waiting
+     */
+    public long run(Stream<Long> chatIds) throws IOException, InterruptedException {
+        if (running)
+            throw new IllegalStateException("The broadcast is already running");
+        long startPosition = checkpoint != null ? checkpoint.load() : 0;
+        running = true;
+        synchronized (this) {
+            position = startPosition;
+            storedPosition = startPosition;
+            processed = new BitSet();
+            checkpointFailures = 0;
+            checkpointError = null;
+        }
+        long sentBefore = sentCount.get();
+        Semaphore slots = new Semaphore(workers);
+        ExecutorService executor = TelegramExecutors.newThreadPerTaskExecutor("telegram-broadcast");
+        try {
+            Iterator<Long> iterator = chatIds.skip(startPosition).iterator();
+            long index = startPosition;
+            while (running && iterator.hasNext()) {
+                long chatId = iterator.next();
+                long chatIndex = index++;
+                slots.acquire();
+                executor.execute(() -> {
+                    try {
+                        send(chatId);
+                    } finally {
+                        markProcessed(chatIndex);
+                        slots.release();
+                    }
+                });
+            }
+            slots.acquire(workers);
+            slots.release(workers);
+        } finally {
+            executor.shutdown();
+            running = false;
+        }
+        IOException error;
+        synchronized (this) {
+            error = checkpointError;
+        }
+        if (error == null) {
+            storeCheckpoint(true);
+            return sentCount.get() - sentBefore;
+        }
+        try {
+            storeCheckpoint(true);
+        } catch (IOException e) {
+            error = e;
+        }
+        throw new IOException("The broadcast has been stopped because the checkpoint cannot be written", error);
+    }
+
+    /**
+     * Method to send the message to a chat
+     *
+     * @param chatId: the identifier of the chat which send the message to
+     */
+    private void send(long chatId) {
+        Params params = template.copy();
+        params.addParam("chat_id", chatId);
+        try {
+            manager.sendPostRequest(methodName, params);
+            sentCount.incrementAndGet();
+        } catch (IOException e) {
+            TelegramResponse response = manager.getThreadResponse();
+            BroadcastFailure failure = new BroadcastFailure(chatId, response != null ? response.getErrorResponse()
+                    : e.getMessage());
+            notifyFailure(failure);
+            if (failure.getType() == FailureType.MIGRATED)
+                send(failure.getMigrateToChatId());
+            else
+                failedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Method to notify a failure to the sink of its type
+     *
+     * @param failure: the failure to notify
+     */
+    private void notifyFailure(BroadcastFailure failure) {
+        Consumer<BroadcastFailure> sink;
+        synchronized (failureSinks) {
+            sink = failureSinks.get(failure.getType());
+        }
+        if (sink != null) {
+            try {
+                sink.accept(failure);
+            } catch (RuntimeException e) {
+                errorListener.accept(e);
+            }
+        }
+    }
+
+    /**
+     * Method to mark a chat as processed and to move forward the {@link #position} when possible
+     *
+     * @param index: the index of the chat in the list
+     * @apiNote when the checkpoint cannot be written {@link #MAX_CHECKPOINT_FAILURES} consecutive times the broadcast
+     * is stopped
+     */
+    private void markProcessed(long index) {
+        IOException error = null;
+        synchronized (this) {
+            processed.set((int) (index - position));
+            int shift = processed.nextClearBit(0);
+            if (shift > 0) {
+                position += shift;
+                processed = processed.get(shift, Math.max(shift, processed.length()));
+            }
+            try {
+                storeCheckpoint(false);
+                checkpointFailures = 0;
+            } catch (IOException e) {
+                error = e;
+                if (++checkpointFailures >= MAX_CHECKPOINT_FAILURES && checkpointError == null) {
+                    checkpointError = e;
+                    running = false;
+                }
+            }
+        }
+        if (error != null)
+            errorListener.accept(error);
+    }
+
+    /**
+     * Method to store the {@link #position} in the {@link #checkpoint}
+     *
+     * @param force: whether store the position also if the {@link #checkpointInterval} has not been reached
+     * @throws IOException when the checkpoint cannot be written
+     */
+    private synchronized void storeCheckpoint(boolean force) throws IOException {
+        if (checkpoint == null || position == storedPosition)
+            return;
+        if (force || position - storedPosition >= checkpointInterval) {
+            checkpoint.store(position);
+            storedPosition = position;
+        }
+    }
+
+    /**
+     * Method to stop the broadcast, the messages in flight are completed and the progress is stored <br>
+     * No-any params required
+     */
+    public void stop() {
+        running = false;
+    }
+
+    /**
+     * Method to set the sink of a type of failure
+     *
+     * @param type: the type of failure
+     * @param sink: the sink of the messages not delivered for that type, {@code "null"} to ignore them
+     */
+    public void setFailureSink(FailureType type, Consumer<BroadcastFailure> sink) {
+        synchronized (failureSinks) {
+            if (sink == null)
+                failureSinks.remove(type);
+            else
+                failureSinks.put(type, sink);
+        }
+    }
+
+    /**
+     * Method to set {@link #errorListener} instance
+     *
+     * @param errorListener: the listener of the errors occurred in the sinks or while writing the checkpoint
+     * @apiNote the errors of the sinks do not stop the broadcast
+     */
+    public void setErrorListener(Consumer<Exception> errorListener) {
+        this.errorListener = errorListener;
+    }
+
+    /**
+     * Method to get {@link #sentCount} instance <br>
+     * No-any params required
+     *
+     * @return {@link #sentCount} instance as long
+     */
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    /**
+     * Method to get {@link #failedCount} instance <br>
+     * No-any params required
+     *
+     * @return {@link #failedCount} instance as long
+     */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * Method to get {@link #position} instance <br>
+     * No-any params required
+     *
+     * @return {@link #position} instance as long
+     */
+    public synchronized long getPosition() {
+        return position;
+    }
+
+    /**
+     * Method to get whether the broadcast is running <br>
+     * No-any params required
+     *
+     * @return whether the broadcast is running as boolean
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+}
@@ -0,0 +1,208 @@
+package com.tecknobit.telegrammanager.botapi.managers.broadcast;
+
+import com.tecknobit.telegrammanager.botapi.records.structures.TelegramType.ResponseParameters;
+import org.json.JSONObject;
+
+/**
+ * The {@code BroadcastFailure} class is useful to describe a message of a broadcast which has not been delivered
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see BroadcastEngine
+ */
+public class BroadcastFailure {
+
+    /**
+     * {@code FORBIDDEN_CODE} the error code of the requests sent to a chat which the bot cannot write to
+     */
+    private static final int FORBIDDEN_CODE = 403;
+
+    /**
+     * {@code BAD_REQUEST_CODE} the error code of the requests not valid
+     */
+    private static final int BAD_REQUEST_CODE = 400;
+
+    /**
+     * {@code chatId} the identifier of the chat which the message has not been delivered to
+     */
+    private final long chatId;
+
+    /**
+     * {@code type} the type of the failure
+     */
+    private final FailureType type;
+
+    /**
+     * {@code errorCode} the error code of the response, {@code "-1"} if the request has not been answered
+     */
+    private final int errorCode;
+
+    /**
+     * {@code description} the description of the error
+     */
+    private final String description;
+
+    /**
+     * {@code migrateToChatId} the identifier of the supergroup which the group has been migrated to, {@code "-1"} if
+     * the chat has not been migrated
+     */
+    private final long migrateToChatId;
+
+    /**
+     * Constructor to init {@link BroadcastFailure}
+     *
+     * @param chatId:        the identifier of the chat which the message has not been delivered to
+     * @param errorResponse: the error response of the request, can be {@code "null"}
+     */
+    public BroadcastFailure(long chatId, String errorResponse) {
+        this.chatId = chatId;
+        JSONObject jError = null;
+        try {
+            if (errorResponse != null)
+                jError = new JSONObject(errorResponse);
+        } catch (Exception ignored) {
+        }
+        if (jError != null) {
+            errorCode = jError.optInt("error_code", -1);
+            description = jError.optString("description", errorResponse);
+            JSONObject jParameters = jError.optJSONObject("parameters");
+            if (jParameters != null)
+                migrateToChatId = new ResponseParameters(jParameters).getMigrateToChatId();
+            else
+                migrateToChatId = -1;
+        } else {
+            errorCode = -1;
+            description = errorResponse;
+            migrateToChatId = -1;
+        }
+        type = FailureType.reachFailureType(errorCode, description, migrateToChatId);
+    }
+
+    /**
+     * Method to get {@link #chatId} instance <br>
+     * No-any params required
+     *
+     * @return {@link #chatId} instance as long
+     */
+    public long getChatId() {
+        return chatId;
+    }
+
+    /**
+     * Method to get {@link #type} instance <br>
+     * No-any params required
+     *
+     * @return {@link #type} instance as {@link FailureType}
+     */
+    public FailureType getType() {
+        return type;
+    }
+
+    /**
+     * Method to get {@link #errorCode} instance <br>
+     * No-any params required
+     *
+     * @return {@link #errorCode} instance as int
+     */
+    public int getErrorCode() {
+        return errorCode;
+    }
+
+    /**
+     * Method to get {@link #description} instance <br>
+     * No-any params required
+     *
+     * @return {@link #description} instance as {@link String}
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Method to get {@link #migrateToChatId} instance <br>
+     * No-any params required
+     *
+     * @return {@link #migrateToChatId} instance as long
+     */
+    public long getMigrateToChatId() {
+        return migrateToChatId;
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * No-any params required
+     *
+     * @return a string representation of the object as {@link String}
+     */
+    @Override
+    public String toString() {
+        return new JSONObject()
+                .put("chat_id", chatId)
+                .put("type", type)
+                .put("error_code", errorCode)
+                .put("description", description)
+                .put("migrate_to_chat_id", migrateToChatId)
+                .toString();
+    }
+
+    /**
+     * {@code FailureType} list of available types of failure
+     */
+    public enum FailureType {
+
+        /**
+         * {@code BLOCKED} the user has blocked the bot
+         */
+        BLOCKED,
+
+        /**
+         * {@code DEACTIVATED} the account of the user has been deleted
+         */
+        DEACTIVATED,
+
+        /**
+         * {@code FORBIDDEN} the bot cannot write to the chat, for example because it has been kicked
+         */
+        FORBIDDEN,
+
+        /**
+         * {@code CHAT_NOT_FOUND} the chat does not exist or the bot has never been started by the user
+         */
+        CHAT_NOT_FOUND,
+
+        /**
+         * {@code MIGRATED} the group has been migrated to a supergroup
+         */
+        MIGRATED,
+
+        /**
+         * {@code OTHER} any other failure, also when the request has not been answered
+         */
+        OTHER;
+
+        /**
+         * Method to reach the type of failure
+         *
+         * @param errorCode:       the error code of the response
+         * @param description:     the description of the error, can be {@code "null"}
+         * @param migrateToChatId: the identifier of the supergroup which the group has been migrated to
+         * @return type of failure as {@link FailureType}
+         */
+        private static FailureType reachFailureType(int errorCode, String description, long migrateToChatId) {
+            if (migrateToChatId != -1)
+                return MIGRATED;
+            String lDescription = description != null ? description.toLowerCase() : "";
+            if (errorCode == FORBIDDEN_CODE) {
+                if (lDescription.contains("blocked"))
+                    return BLOCKED;
+                if (lDescription.contains("deactivated"))
+                    return DEACTIVATED;
+                return FORBIDDEN;
+            }
+            if (errorCode == BAD_REQUEST_CODE && lDescription.contains("chat not found"))
+                return CHAT_NOT_FOUND;
+            return OTHER;
+        }
+
+    }
+
+}
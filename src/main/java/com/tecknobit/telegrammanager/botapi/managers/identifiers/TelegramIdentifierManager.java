@@ -98,9 +98,7 @@ public class TelegramIdentifierManager extends TelegramManager {
                                      Params payload) throws IOException {
         payload = createChatIdPayload(chatId, payload);
         payload.addParam(mediaType.toString(), mediaValue);
-        apiRequest.sendAPIRequest(BASE_BOT_ENDPOINT + token + "/" + methodName + payload.createQueryString(),
-                POST, "Content-Type", "multipart/form-data");
-        return apiRequest.getResponse();
+        return sendRequest(methodName, payload, POST, "multipart/form-data");
     }
 
     /**
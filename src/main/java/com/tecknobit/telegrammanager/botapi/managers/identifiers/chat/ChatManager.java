@@ -13,17 +13,39 @@ import com.tecknobit.telegrammanager.botapi.managers.identifiers.chat.records.me
 import com.tecknobit.telegrammanager.botapi.managers.identifiers.content.records.TelegramFile;
 import com.tecknobit.telegrammanager.botapi.managers.profile.records.User;
 import com.tecknobit.telegrammanager.botapi.managers.profile.records.UserProfilePhotos;
+import com.tecknobit.telegrammanager.botapi.managers.requests.BotApiServer;
+import com.tecknobit.telegrammanager.botapi.managers.requests.InputFile;
+import com.tecknobit.telegrammanager.botapi.managers.requests.TelegramResponse;
 import com.tecknobit.telegrammanager.botapi.records.basetypes.inputmedia.InputMedia.InputMediaType;
 import com.tecknobit.telegrammanager.botapi.records.basetypes.message.Message;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
 
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.POST;
 import static com.tecknobit.telegrammanager.botapi.managers.TelegramManager.ReturnFormat.LIBRARY_OBJECT;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
 
 /**
  * The {@code ChatManager} class is useful to create a {@code Telegram}'s bot chat manager
@@ -46,6 +68,21 @@ public class ChatManager extends TelegramIdentifierManager {
      */
     public static final String GET_FILE_ENDPOINT = "getFile";
 
+    /**
+     * {@code TRANSFER_CHUNK_SIZE} size in bytes of the chunks used to transfer the content of the files downloaded
+     */
+    private static final int TRANSFER_CHUNK_SIZE = 64 * 1024;
+
+    /**
+     * {@code PARTIAL_CONTENT_CODE} the status code of the responses with a range of the file requested
+     */
+    private static final int PARTIAL_CONTENT_CODE = 206;
+
+    /**
+     * {@code RANGE_NOT_SATISFIABLE_CODE} the status code of the responses when the range requested exceeds the file
+     */
+    private static final int RANGE_NOT_SATISFIABLE_CODE = 416;
+
     /**
      * {@code BAN_CHAT_MEMBER_ENDPOINT} is constant for BAN_CHAT_MEMBER_ENDPOINT's endpoint
      */
@@ -510,7 +547,8 @@ public class ChatManager extends TelegramIdentifierManager {
      * files of up to 20MB in size. <br>
      * he file can then be downloaded via the link {@code "https://api.telegram.org/file/bot<token>/<file_path>"}, where
      * {@code "<file_path>"} is taken from the response. It is guaranteed that the link will be valid for at least 1 hour.
-     * When the link expires, a new one can be requested by calling getFile again
+     * When the link expires, a new one can be requested by calling getFile again. When the {@link BotApiServer} runs in
+     * local mode, {@code "<file_path>"} is the absolute path of the file on the disk of the server
      *
      * @param fileId: file identifier to get information about
      * @return file as {@link TelegramFile} custom object
@@ -540,7 +578,8 @@ public class ChatManager extends TelegramIdentifierManager {
      * files of up to 20MB in size. <br>
      * he file can then be downloaded via the link {@code "https://api.telegram.org/file/bot<token>/<file_path>"}, where
      * {@code "<file_path>"} is taken from the response. It is guaranteed that the link will be valid for at least 1 hour.
-     * When the link expires, a new one can be requested by calling getFile again
+     * When the link expires, a new one can be requested by calling getFile again. When the {@link BotApiServer} runs in
+     * local mode, {@code "<file_path>"} is the absolute path of the file on the disk of the server
      *
      * @param fileId: file identifier to get information about
      * @param format  :       return type formatter -> {@link ReturnFormat}
@@ -567,6 +606,312 @@ public class ChatManager extends TelegramIdentifierManager {
         return TelegramFile.returnFile(sendGetRequest(GET_FILE_ENDPOINT, query), format);
     }
 
+    /**
+     * Method to download a file, the content is streamed directly into the destination file without being buffered
+     * in memory
+     *
+     * @param fileId:      file identifier to download
+     * @param destination: the destination file, if it exists it will be overwritten only when the download has been
+     *                     completed
+     * @return number of bytes downloaded as long
+     * @throws IOException when request has been go wrong -> you can use these methods to get more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote the file is prepared for the downloading with {@link #getFile(String)}
+     */
+    @Wrapper
+    public long downloadFile(String fileId, Path destination) throws IOException {
+        return downloadFile(getFile(fileId), destination, false);
+    }
+
+    /**
+     * Method to download a file, the content is streamed directly into the destination file without being buffered
+     * in memory
+     *
+     * @param file:        the file to download, prepared with {@link #getFile(String)}
+     * @param destination: the destination file
+     * @param resume:      whether resume the download from the end of the destination file if it exists, otherwise the
+     *                     destination file will be overwritten only when the download has been completed
+     * @return number of bytes downloaded as long
+     * @throws IOException when request has been go wrong -> you can use these methods to get more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote the link of the file is valid for at least 1 hour, when it expires, the file must be prepared again.
+     * The files larger than {@link BotApiServer#getMaxDownloadSize()} are rejected before any byte is written
+     */
+    public long downloadFile(TelegramFile file, Path destination, boolean resume) throws IOException {
+        checkDownloadSize(file);
+        if (resume && Files.exists(destination))
+            return resumeDownload(file, destination);
+        Path target = destination.toAbsolutePath();
+        Path temporary = Files.createTempFile(target.getParent(), target.getFileName() + ".", ".part");
+        try {
+            long downloaded;
+            try (FileChannel channel = FileChannel.open(temporary, WRITE)) {
+                downloaded = downloadFile(file, channel, 0, -1);
+            }
+            try {
+                Files.move(temporary, target, REPLACE_EXISTING, ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, target, REPLACE_EXISTING);
+            }
+            return downloaded;
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Method to resume the download of a file from the end of the destination file, the content already downloaded
+     * is never truncated
+     *
+     * @param file:        the file to download, prepared with {@link #getFile(String)}
+     * @param destination: the destination file which contains the content already downloaded
+     * @return number of bytes downloaded as long
+     * @throws IOException when request has been go wrong
+     */
+    private long resumeDownload(TelegramFile file, Path destination) throws IOException {
+        try (FileChannel channel = FileChannel.open(destination, CREATE, WRITE)) {
+            long offset = channel.size();
+            if (file.getFileSize() > 0 && offset >= file.getFileSize())
+                return 0;
+            channel.position(offset);
+            Path localPath = getLocalFilePath(file);
+            if (localPath != null)
+                return transferLocalFile(localPath, channel, offset, -1);
+            HttpResponse<InputStream> response = sendDownloadRequest(file, offset, -1);
+            try (InputStream content = response.body()) {
+                int statusCode = response.statusCode();
+                if (statusCode == RANGE_NOT_SATISFIABLE_CODE)
+                    return 0;
+                if (statusCode != PARTIAL_CONTENT_CODE)
+                    content.skipNBytes(offset);
+                return transferContent(content, channel, -1);
+            }
+        }
+    }
+
+    /**
+     * Method to download a file, the content is streamed directly into the channel without being buffered in memory
+     *
+     * @param file:    the file to download, prepared with {@link #getFile(String)}
+     * @param channel: the channel where write the content of the file, it will not be closed
+     * @return number of bytes downloaded as long
+     * @throws IOException when request has been go wrong -> you can use these methods to get more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote the link of the file is valid for at least 1 hour, when it expires, the file must be prepared again.
+     * The files larger than {@link BotApiServer#getMaxDownloadSize()} are rejected before any byte is written
+     */
+    @Wrapper
+    public long downloadFile(TelegramFile file, WritableByteChannel channel) throws IOException {
+        return downloadFile(file, channel, 0, -1);
+    }
+
+    /**
+     * Method to download a range of a file, the content is streamed directly into the channel without being buffered
+     * in memory
+     *
+     * @param file:    the file to download, prepared with {@link #getFile(String)}
+     * @param channel: the channel where write the content of the file, it will not be closed
+     * @param offset:  the offset in bytes from which start the download
+     * @param length:  the number of bytes to download, a negative value to download until the end of the file
+     * @return number of bytes downloaded as long
+     * @throws IOException when request has been go wrong -> you can use these methods to get more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote the link of the file is valid for at least 1 hour, when it expires, the file must be prepared again.
+     * The files larger than {@link BotApiServer#getMaxDownloadSize()} are rejected before any byte is written
+     */
+    public long downloadFile(TelegramFile file, WritableByteChannel channel, long offset, long length) throws IOException {
+        if (offset < 0)
+            throw new IllegalArgumentException("The offset cannot be a negative value");
+        if (length == 0)
+            return 0;
+        checkDownloadSize(file);
+        Path localPath = getLocalFilePath(file);
+        if (localPath != null) {
+            try (FileChannel source = FileChannel.open(localPath, READ)) {
+                if (offset > 0 && offset >= source.size())
+                    throw new IOException("The range requested is not satisfiable");
+            }
+            return transferLocalFile(localPath, channel, offset, length);
+        }
+        HttpResponse<InputStream> response = sendDownloadRequest(file, offset, length);
+        try (InputStream content = response.body()) {
+            int statusCode = response.statusCode();
+            if (statusCode == RANGE_NOT_SATISFIABLE_CODE)
+                throw new IOException("The range requested is not satisfiable");
+            if (statusCode == PARTIAL_CONTENT_CODE)
+                return transferContent(content, channel, -1);
+            content.skipNBytes(offset);
+            return transferContent(content, channel, length);
+        }
+    }
+
+    /**
+     * Method to check that a file can be downloaded from the {@link BotApiServer}
+     *
+     * @param file: the file to download
+     * @throws IOException when the file exceeds the maximum size of the downloads from the server
+     */
+    private void checkDownloadSize(TelegramFile file) throws IOException {
+        BotApiServer server = getBotApiServer();
+        long maxDownloadSize = server.getMaxDownloadSize();
+        if (maxDownloadSize >= 0 && file.getFileSize() > maxDownloadSize) {
+            throw new IOException("The file " + file.getFileId() + " of " + file.getFileSize() + " bytes exceeds the "
+                    + "maximum size of " + maxDownloadSize + " bytes of the downloads from " + server);
+        }
+    }
+
+    /**
+     * Method to get the path of a file on the disk of the {@link BotApiServer} in local mode
+     *
+     * @param file: the file prepared with {@link #getFile(String)}
+     * @return path of the file as {@link Path}, {@code "null"} if the server does not run in local mode
+     * @apiNote the file can be read directly only if the server runs on the same machine or shares its working
+     * directory, otherwise the path must be mapped to the local one
+     */
+    public Path getLocalFilePath(TelegramFile file) {
+        String filePath = file.getFilePath();
+        if (filePath == null || !getBotApiServer().isLocal())
+            return null;
+        Path path = Path.of(filePath);
+        if (!path.isAbsolute())
+            return null;
+        return path;
+    }
+
+    /**
+     * Method to transfer the content of a file on the disk into a channel
+     *
+     * @param path:    the path of the file
+     * @param channel: the channel where write the content
+     * @param offset:  the offset in bytes from which start the transfer
+     * @param length:  the number of bytes to transfer, a negative value to transfer until the end of the file
+     * @return number of bytes transferred as long
+     */
+    private long transferLocalFile(Path path, WritableByteChannel channel, long offset,
+                                   long length) throws IOException {
+        try (FileChannel source = FileChannel.open(path, READ)) {
+            long end = source.size();
+            if (length > 0)
+                end = Math.min(end, offset + length);
+            long position = offset;
+            while (position < end)
+                position += source.transferTo(position, end - position, channel);
+            return Math.max(position - offset, 0);
+        }
+    }
+
+    /**
+     * Method to send the request to download a file
+     *
+     * @param file:   the file to download
+     * @param offset: the offset in bytes from which start the download
+     * @param length: the number of bytes to download, a negative value to download until the end of the file
+     * @return response with the content of the file as {@link HttpResponse}
+     */
+    private HttpResponse<InputStream> sendDownloadRequest(TelegramFile file, long offset,
+                                                          long length) throws IOException {
+        String filePath = file.getFilePath();
+        if (filePath == null)
+            throw new IOException("The file is not available for the download, prepare it with getFile");
+        HttpRequest.Builder request = newRequest(createFileUrl(filePath)).GET();
+        if (offset > 0 || length > 0)
+            request.header("Range", "bytes=" + offset + "-" + (length > 0 ? offset + length - 1 : ""));
+        HttpResponse<InputStream> response;
+        try {
+            response = getTransport().send(request.build(), BodyHandlers.ofInputStream());
+        } catch (IOException e) {
+            storeResponse(new TelegramResponse(-1, null, defaultErrorMessage));
+            throw e;
+        }
+        int statusCode = response.statusCode();
+        if (statusCode == 200 || statusCode == PARTIAL_CONTENT_CODE || statusCode == RANGE_NOT_SATISFIABLE_CODE) {
+            storeResponse(new TelegramResponse(statusCode, null, null));
+            return response;
+        }
+        String errorResponse;
+        try (InputStream content = response.body()) {
+            errorResponse = new String(content.readAllBytes(), UTF_8);
+        }
+        storeResponse(new TelegramResponse(statusCode, null, errorResponse));
+        throw new IOException(errorResponse);
+    }
+
+    /**
+     * Method to transfer the content of a file downloaded into a channel
+     *
+     * @param content: the content of the file
+     * @param channel: the channel where write the content
+     * @param limit:   the maximum number of bytes to transfer, a negative value to transfer all the content
+     * @return number of bytes transferred as long
+     */
+    private long transferContent(InputStream content, WritableByteChannel channel, long limit) throws IOException {
+        ReadableByteChannel source = Channels.newChannel(content);
+        long transferred = 0;
+        if (channel instanceof FileChannel fileChannel) {
+            long position = fileChannel.position();
+            long count;
+            do {
+                long chunk = limit < 0 ? TRANSFER_CHUNK_SIZE : Math.min(TRANSFER_CHUNK_SIZE, limit - transferred);
+                count = chunk > 0 ? fileChannel.transferFrom(source, position + transferred, chunk) : 0;
+                transferred += count;
+            } while (count > 0);
+            fileChannel.position(position + transferred);
+            return transferred;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(TRANSFER_CHUNK_SIZE);
+        while (limit < 0 || transferred < limit) {
+            if (limit >= 0)
+                buffer.limit((int) Math.min(buffer.capacity(), limit - transferred));
+            if (source.read(buffer) < 0)
+                break;
+            buffer.flip();
+            while (buffer.hasRemaining())
+                transferred += channel.write(buffer);
+            buffer.clear();
+        }
+        return transferred;
+    }
+
     /**
      * Method to ban a user in a group, a supergroup or a channel. In the case of supergroups and channels, the user
      * will not be able to return to the chat on their own using invite links, etc., unless unbanned first.
@@ -3234,6 +3579,34 @@ public class ChatManager extends TelegramIdentifierManager {
         return getBooleanResponse(uploadMedia(SET_CHAT_PHOTO_ENDPOINT, chatId, InputMediaType.photo, photo, null));
     }
 
+    /**
+     * Method to set a new profile photo for the chat, the photo is streamed with a {@code multipart/form-data} request.
+     * Photos can't be changed for private chats. The bot must be an administrator in the chat for this to work and
+     * must have the appropriate administrator rights
+     *
+     * @param chatId: unique identifier for the target chat or username of the target channel
+     * @param photo:  new chat photo to upload
+     * @return result of the operation -> {@code "true"} is successful, {@code "false"} if not successful
+     * @throws IOException when request has been go wrong -> you can use these methods to get more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote see the official documentation at: <a href="https://core.telegram.org/bots/api#setchatphoto">
+     * setChatPhoto</a>
+     */
+    @RequestPath(method = POST, path = "setChatPhoto")
+    public <T> boolean setChatPhoto(T chatId, InputFile photo) throws IOException {
+        return getBooleanResponse(uploadMedia(SET_CHAT_PHOTO_ENDPOINT, chatId, InputMediaType.photo, photo, null));
+    }
+
     /**
      * Method to delete a chat photo. Photos can't be changed for private chats. The bot must be an administrator in
      * the chat for this to work and must have the appropriate administrator rights <br>
@@ -3962,7 +4335,7 @@ public class ChatManager extends TelegramIdentifierManager {
     @Returner
     @RequestPath(method = GET, path = "getChat")
     public <T, L> T getChat(L chatId, ReturnFormat format) throws IOException {
-        String chatResponse = sendGetRequest(GET_CHAT_ENDPOINT, createChatIdPayload(chatId, null));
+        String chatResponse = sendCoalescedGetRequest(GET_CHAT_ENDPOINT, createChatIdPayload(chatId, null));
         return switch (format) {
             case JSON -> (T) new JSONObject(chatResponse);
             case LIBRARY_OBJECT -> (T) new Chat(new JSONObject(chatResponse));
@@ -3970,6 +4343,38 @@ public class ChatManager extends TelegramIdentifierManager {
         };
     }
 
+    /**
+     * Request to get asynchronously up-to-date information about the chat (current name of the user for one-on-one
+     * conversations, current username of a user, group or channel, etc.)
+     *
+     * @param chatId: unique identifier for the target chat or username of the target channel
+     * @return chat as {@link Chat} custom object as {@link CompletableFuture}
+     * @apiNote see the official documentation at: <a href="https://core.telegram.org/bots/api#getchat">
+     * getChat</a>
+     * @see #async(ManagerRequest)
+     */
+    @Wrapper
+    @RequestPath(method = GET, path = "getChat")
+    public <T> CompletableFuture<Chat> getChatAsync(T chatId) {
+        return getChatAsync(chatId, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to get asynchronously up-to-date information about the chat (current name of the user for one-on-one
+     * conversations, current username of a user, group or channel, etc.)
+     *
+     * @param chatId: unique identifier for the target chat or username of the target channel
+     * @param format  :       return type formatter -> {@link ReturnFormat}
+     * @return chat as {@code "format"} defines as {@link CompletableFuture}
+     * @apiNote see the official documentation at: <a href="https://core.telegram.org/bots/api#getchat">
+     * getChat</a>
+     * @see #async(ManagerRequest)
+     */
+    @RequestPath(method = GET, path = "getChat")
+    public <T, L> CompletableFuture<T> getChatAsync(L chatId, ReturnFormat format) {
+        return async(() -> getChat(chatId, format));
+    }
+
     /**
      * Request to get a list of administrators in a chat, which aren't bots <br>
      * No-any params required
@@ -4071,14 +4476,14 @@ public class ChatManager extends TelegramIdentifierManager {
     @Returner
     @RequestPath(method = GET, path = "getChatAdministrators")
     public <T, L> T getChatAdministrators(L chatId, ReturnFormat format) throws IOException {
-        JSONArray result = getResultFromList(sendGetRequest(GET_CHAT_ADMINISTRATORS_ENDPOINT, createChatIdPayload(chatId,
-                null)));
+        JSONArray result = getResultFromList(sendCoalescedGetRequest(GET_CHAT_ADMINISTRATORS_ENDPOINT,
+                createChatIdPayload(chatId, null)));
         return switch (format) {
             case JSON -> (T) result;
             case LIBRARY_OBJECT -> {
                 ArrayList<ChatMember> chatMembers = new ArrayList<>();
                 for (int j = 0; j < result.length(); j++)
-                    chatMembers.add(new ChatMember(result.getJSONObject(j)));
+                    chatMembers.add(ChatMember.getInstance(result.getJSONObject(j)));
                 yield (T) chatMembers;
             }
             default -> (T) result.toString();
@@ -4186,7 +4591,7 @@ public class ChatManager extends TelegramIdentifierManager {
     @Returner
     @RequestPath(method = GET, path = "getChatMemberCount")
     public <T, L> T getChatMemberCount(L chatId, ReturnFormat format) throws IOException {
-        JSONObject responseMemberCount = new JSONObject(sendGetRequest(GET_CHAT_MEMBER_COUNT_ENDPOINT,
+        JSONObject responseMemberCount = new JSONObject(sendCoalescedGetRequest(GET_CHAT_MEMBER_COUNT_ENDPOINT,
                 createChatIdPayload(chatId, null)));
         return switch (format) {
             case JSON -> (T) responseMemberCount;
@@ -4303,10 +4708,12 @@ public class ChatManager extends TelegramIdentifierManager {
     @Returner
     @RequestPath(method = GET, path = "getChatMember")
     public <T, L> T getChatMember(L chatId, long userId, ReturnFormat format) throws IOException {
-        String chatMemberResponse = sendGetRequest(GET_CHAT_MEMBER_ENDPOINT, createChatIdPayload(chatId, null));
+        Params query = createChatIdPayload(chatId, null);
+        query.addParam("user_id", userId);
+        String chatMemberResponse = sendCoalescedGetRequest(GET_CHAT_MEMBER_ENDPOINT, query);
         return switch (format) {
             case JSON -> (T) new JSONObject(chatMemberResponse);
-            case LIBRARY_OBJECT -> (T) new ChatMember(new JSONObject(chatMemberResponse));
+            case LIBRARY_OBJECT -> (T) ChatMember.getInstance(new JSONObject(chatMemberResponse));
             default -> (T) chatMemberResponse;
         };
     }
@@ -0,0 +1,418 @@
+package com.tecknobit.telegrammanager.botapi.managers.identifiers.chat;
+
+import com.tecknobit.telegrammanager.botapi.managers.identifiers.chat.records.members.ChatMember;
+import com.tecknobit.telegrammanager.botapi.managers.identifiers.chat.records.members.ChatMember.ChatMemberStatus;
+import com.tecknobit.telegrammanager.botapi.managers.identifiers.chat.records.members.ChatMemberAdministrator;
+import com.tecknobit.telegrammanager.botapi.managers.identifiers.chat.records.members.actions.ChatMemberUpdated;
+import com.tecknobit.telegrammanager.botapi.managers.updates.UpdatesHandler;
+import com.tecknobit.telegrammanager.botapi.managers.updates.records.Update;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.tecknobit.telegrammanager.botapi.managers.TelegramManager.ReturnFormat.LIBRARY_OBJECT;
+import static com.tecknobit.telegrammanager.botapi.managers.identifiers.chat.records.members.ChatMember.ChatMemberStatus.*;
+
+/**
+ * The {@code ChatMembersCache} class is useful to keep in memory the administrators and the members of the chats, so
+ * the permission checks do not need a request for each check. The cache is updated with the
+ * {@link ChatMemberUpdated} received with the {@code "chat_member"} and {@code "my_chat_member"} updates
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the {@code "chat_member"} updates are sent only if the bot is an administrator of the chat and they have
+ * been requested with the {@code "allowed_updates"} list, so the entries are also refreshed when older than the
+ * {@link #maxAge}. The values fetched while a change of the same chat is applied are returned but not kept in memory,
+ * so a change is never overwritten by an older snapshot. The cache can be used directly as {@link UpdatesHandler} or
+ * its {@link #onUpdate(Update)} method can be called by any handler
+ * @see ChatManager
+ */
+public class ChatMembersCache implements UpdatesHandler {
+
+    /**
+     * {@code DEFAULT_MAX_AGE} default time in millis after that an entry is refreshed
+     */
+    public static final long DEFAULT_MAX_AGE = 10 * 60 * 1000;
+
+    /**
+     * {@code DEFAULT_CAPACITY} default number of chats and of members kept in memory
+     */
+    public static final int DEFAULT_CAPACITY = 10000;
+
+    /**
+     * {@code chatManager} the manager used to fetch the entries not kept in memory
+     */
+    private final ChatManager chatManager;
+
+    /**
+     * {@code maxAge} the time in millis after that an entry is refreshed
+     */
+    private final long maxAge;
+
+    /**
+     * {@code administrators} the administrators of each chat kept in memory
+     */
+    private final LinkedHashMap<Long, Entry<LinkedHashMap<Long, ChatMember>>> administrators;
+
+    /**
+     * {@code members} the members of the chats kept in memory
+     */
+    private final LinkedHashMap<MemberKey, Entry<ChatMember>> members;
+
+    /**
+     * {@code chatsChanges} the sequence number of the last change applied to each chat, used to not overwrite a change
+     * with the values fetched before it
+     */
+    private final LinkedHashMap<Long, Long> chatsChanges;
+
+    /**
+     * {@code changesSequence} the sequence number of the last change applied to any chat
+     */
+    private long changesSequence;
+
+    /**
+     * {@code forgottenChanges} the highest sequence number of the changes removed from the {@link #chatsChanges}, used
+     * for the chats without a change kept in memory
+     */
+    private long forgottenChanges;
+
+    /**
+     * Constructor to init {@link ChatMembersCache} with the {@link #DEFAULT_MAX_AGE} and the {@link #DEFAULT_CAPACITY}
+     *
+     * @param chatManager: the manager used to fetch the entries not kept in memory
+     */
+    public ChatMembersCache(ChatManager chatManager) {
+        this(chatManager, DEFAULT_MAX_AGE, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor to init {@link ChatMembersCache}
+     *
+     * @param chatManager: the manager used to fetch the entries not kept in memory
+     * @param maxAge:      the time in millis after that an entry is refreshed
+     * @param capacity:    the number of chats and of members kept in memory
+     */
+    public ChatMembersCache(ChatManager chatManager, long maxAge, int capacity) {
+        if (maxAge <= 0)
+            throw new IllegalArgumentException("The max age must be a positive value");
+        if (capacity <= 0)
+            throw new IllegalArgumentException("The capacity must be a positive value");
+        this.chatManager = chatManager;
+        this.maxAge = maxAge;
+        administrators = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry<LinkedHashMap<Long, ChatMember>>> eldest) {
+                return size() > capacity;
+            }
+        };
+        members = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<MemberKey, Entry<ChatMember>> eldest) {
+                return size() > capacity;
+            }
+        };
+        chatsChanges = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                if (size() <= capacity)
+                    return false;
+                forgottenChanges = Math.max(forgottenChanges, eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Method to get the administrators of a chat
+     *
+     * @param chatId: unique identifier for the target chat
+     * @return administrators of the chat as {@link Collection} of {@link ChatMember}
+     * @throws IOException when the administrators are not kept in memory and the request to fetch them has been go
+     *                     wrong
+     */
+    public Collection<ChatMember> getAdministrators(long chatId) throws IOException {
+        return Collections.unmodifiableCollection(getAdministratorsMap(chatId).values());
+    }
+
+    /**
+     * Method to get a member of a chat
+     *
+     * @param chatId: unique identifier for the target chat
+     * @param userId: unique identifier of the target user
+     * @return chat member as {@link ChatMember}
+     * @throws IOException when the member is not kept in memory and the request to fetch it has been go wrong
+     */
+    public ChatMember getChatMember(long chatId, long userId) throws IOException {
+        MemberKey key = new MemberKey(chatId, userId);
+        long fetchSequence;
+        synchronized (this) {
+            Entry<LinkedHashMap<Long, ChatMember>> chatAdministrators = administrators.get(chatId);
+            if (chatAdministrators != null && isValid(chatAdministrators)) {
+                ChatMember administrator = chatAdministrators.value.get(userId);
+                if (administrator != null)
+                    return administrator;
+            }
+            Entry<ChatMember> member = members.get(key);
+            if (member != null && isValid(member))
+                return member.value;
+            fetchSequence = changesSequence;
+        }
+        ChatMember member = chatManager.getChatMember(chatId, userId, LIBRARY_OBJECT);
+        synchronized (this) {
+            if (!isChangedSince(chatId, fetchSequence))
+                members.put(key, new Entry<>(member));
+        }
+        return member;
+    }
+
+    /**
+     * Method to get whether a user is an administrator or the creator of a chat
+     *
+     * @param chatId: unique identifier for the target chat
+     * @param userId: unique identifier of the target user
+     * @return whether the user is an administrator as boolean
+     * @throws IOException when the administrators are not kept in memory and the request to fetch them has been go
+     *                     wrong
+     */
+    public boolean isAdministrator(long chatId, long userId) throws IOException {
+        return getAdministratorsMap(chatId).containsKey(userId);
+    }
+
+    /**
+     * Method to get the rights of an administrator of a chat
+     *
+     * @param chatId: unique identifier for the target chat
+     * @param userId: unique identifier of the target user
+     * @return rights of the administrator as {@link ChatMemberAdministrator}, {@code "null"} if the user is not an
+     * administrator or is the creator of the chat
+     * @throws IOException when the administrators are not kept in memory and the request to fetch them has been go
+     *                     wrong
+     */
+    public ChatMemberAdministrator getAdministratorRights(long chatId, long userId) throws IOException {
+        if (getAdministratorsMap(chatId).get(userId) instanceof ChatMemberAdministrator administrator)
+            return administrator;
+        return null;
+    }
+
+    /**
+     * Method to get the administrators of a chat by their user identifier
+     *
+     * @param chatId: unique identifier for the target chat
+     * @return administrators of the chat as {@link Map}
+     * @throws IOException when the administrators are not kept in memory and the request to fetch them has been go
+     *                     wrong
+     */
+    private Map<Long, ChatMember> getAdministratorsMap(long chatId) throws IOException {
+        long fetchSequence;
+        synchronized (this) {
+            Entry<LinkedHashMap<Long, ChatMember>> chatAdministrators = administrators.get(chatId);
+            if (chatAdministrators != null && isValid(chatAdministrators))
+                return chatAdministrators.value;
+            fetchSequence = changesSequence;
+        }
+        ArrayList<ChatMember> fetchedAdministrators = chatManager.getChatAdministrators(chatId, LIBRARY_OBJECT);
+        LinkedHashMap<Long, ChatMember> chatAdministrators = new LinkedHashMap<>();
+        for (ChatMember administrator : fetchedAdministrators)
+            chatAdministrators.put(administrator.getUser().getId(), administrator);
+        synchronized (this) {
+            if (!isChangedSince(chatId, fetchSequence))
+                administrators.put(chatId, new Entry<>(chatAdministrators));
+        }
+        return chatAdministrators;
+    }
+
+    /**
+     * Method to get whether a change has been applied to a chat after a fetch has been started
+     *
+     * @param chatId:        unique identifier for the target chat
+     * @param fetchSequence: the {@link #changesSequence} when the fetch has been started
+     * @return whether the values fetched are older than a change applied as boolean
+     * @apiNote when the change of the chat is no more kept in memory the highest change forgotten is used, so the
+     * values fetched can be discarded also if they are not older, but never kept if they are older
+     */
+    private boolean isChangedSince(long chatId, long fetchSequence) {
+        return chatsChanges.getOrDefault(chatId, forgottenChanges) > fetchSequence;
+    }
+
+    /**
+     * Method to record a change applied to a chat, so the values fetched before it are not kept in memory
+     *
+     * @param chatId: unique identifier for the target chat
+     */
+    private void markChanged(long chatId) {
+        chatsChanges.put(chatId, ++changesSequence);
+    }
+
+    /**
+     * Method to get whether an entry can be used
+     *
+     * @param entry: the entry to check
+     * @return whether the entry is not older than the {@link #maxAge} as boolean
+     */
+    private boolean isValid(Entry<?> entry) {
+        return System.currentTimeMillis() - entry.creationTime < maxAge;
+    }
+
+    /**
+     * Method to update the cache with an update, the updates which do not contain a {@link ChatMemberUpdated} are
+     * ignored
+     *
+     * @param update: the update received
+     */
+    @Override
+    public void onUpdate(Update update) {
+        if (update.getChatMember() != null)
+            onChatMemberUpdated(update.getChatMember());
+        if (update.getMyChatMember() != null)
+            onChatMemberUpdated(update.getMyChatMember());
+    }
+
+    /**
+     * Method to update the cache with the change of the status of a member
+     *
+     * @param chatMemberUpdated: the change of the status of the member
+     */
+    public synchronized void onChatMemberUpdated(ChatMemberUpdated chatMemberUpdated) {
+        ChatMember newChatMember = chatMemberUpdated.getNewChatMember();
+        if (newChatMember == null || newChatMember.getUser() == null || chatMemberUpdated.getChat() == null)
+            return;
+        long chatId = chatMemberUpdated.getChat().getId();
+        long userId = newChatMember.getUser().getId();
+        markChanged(chatId);
+        members.put(new MemberKey(chatId, userId), new Entry<>(newChatMember));
+        Entry<LinkedHashMap<Long, ChatMember>> chatAdministrators = administrators.get(chatId);
+        if (chatAdministrators == null)
+            return;
+        ChatMemberStatus status = newChatMember.getStatus();
+        if (status == creator || status == administrator) {
+            LinkedHashMap<Long, ChatMember> updatedAdministrators = new LinkedHashMap<>(chatAdministrators.value);
+            updatedAdministrators.put(userId, newChatMember);
+            administrators.put(chatId, new Entry<>(updatedAdministrators, chatAdministrators.creationTime));
+        } else if (chatAdministrators.value.containsKey(userId)) {
+            LinkedHashMap<Long, ChatMember> updatedAdministrators = new LinkedHashMap<>(chatAdministrators.value);
+            updatedAdministrators.remove(userId);
+            administrators.put(chatId, new Entry<>(updatedAdministrators, chatAdministrators.creationTime));
+        }
+    }
+
+    /**
+     * Method to remove from the memory all the entries of a chat
+     *
+     * @param chatId: unique identifier for the target chat
+     */
+    public synchronized void invalidateChat(long chatId) {
+        markChanged(chatId);
+        administrators.remove(chatId);
+        members.keySet().removeIf(key -> key.chatId == chatId);
+    }
+
+    /**
+     * Method to remove all the entries kept in memory <br>
+     * No-any params required
+     */
+    public synchronized void clear() {
+        administrators.clear();
+        members.clear();
+        chatsChanges.clear();
+        forgottenChanges = ++changesSequence;
+    }
+
+    /**
+     * The {@code Entry} class is useful to hold a value kept in memory
+     *
+     * @param <V> the type of the value
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    private static class Entry<V> {
+
+        /**
+         * {@code value} the value kept in memory
+         */
+        private final V value;
+
+        /**
+         * {@code creationTime} the time in millis when the value has been fetched
+         */
+        private final long creationTime;
+
+        /**
+         * Constructor to init {@link Entry}
+         *
+         * @param value: the value kept in memory
+         */
+        private Entry(V value) {
+            this(value, System.currentTimeMillis());
+        }
+
+        /**
+         * Constructor to init {@link Entry}
+         *
+         * @param value:        the value kept in memory
+         * @param creationTime: the time in millis when the value has been fetched
+         */
+        private Entry(V value, long creationTime) {
+            this.value = value;
+            this.creationTime = creationTime;
+        }
+
+    }
+
+    /**
+     * The {@code MemberKey} class is useful to identify a member of a chat
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    private static class MemberKey {
+
+        /**
+         * {@code chatId} unique identifier of the chat
+         */
+        private final long chatId;
+
+        /**
+         * {@code userId} unique identifier of the user
+         */
+        private final long userId;
+
+        /**
+         * Constructor to init {@link MemberKey}
+         *
+         * @param chatId: unique identifier of the chat
+         * @param userId: unique identifier of the user
+         */
+        private MemberKey(long chatId, long userId) {
+            this.chatId = chatId;
+            this.userId = userId;
+        }
+
+        /**
+         * Indicates whether some other object is "equal to" this one
+         *
+         * @param o: the reference object with which to compare
+         * @return {@code true} if this object is the same as the obj argument; {@code false} otherwise
+         */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof MemberKey key))
+                return false;
+            return chatId == key.chatId && userId == key.userId;
+        }
+
+        /**
+         * Returns a hash code value for the object
+         *
+         * @return a hash code value for this object
+         */
+        @Override
+        public int hashCode() {
+            return Long.hashCode(chatId) * 31 + Long.hashCode(userId);
+        }
+
+    }
+
+}
@@ -381,6 +381,7 @@ public class Chat extends ProfileStructure {
         canSetStickerSet = hTelegram.getBoolean("can_set_sticker_set");
         linkedChatId = hTelegram.getLong("linked_chat_id", -1);
         location = ChatLocation.getInstance(hTelegram.getJSONObject("location"));
+        releaseSourceIfRequired();
     }
 
     /**
@@ -145,12 +145,23 @@ public class ChatMember extends TelegramType {
      *
      * @param jItem: item details as {@link JSONObject}
      * @return instance as {@link ChatMember}
+     * @apiNote the instance is created as the specific type of its {@link #status}, for example as
+     * {@link ChatMemberAdministrator} for the administrators
      */
     public static ChatMember getInstance(JSONObject jItem) {
         if (jItem == null)
             return null;
-        else
-            return new ChatMember(jItem);
+        JSONObject jChatMember = jItem.optJSONObject("result");
+        if (jChatMember == null)
+            jChatMember = jItem;
+        return switch (jChatMember.optString("status")) {
+            case "creator" -> new ChatMemberOwner(jItem);
+            case "administrator" -> new ChatMemberAdministrator(jItem);
+            case "restricted" -> new ChatMemberRestricted(jItem);
+            case "left" -> new ChatMemberLeft(jItem);
+            case "kicked" -> new ChatMemberBanned(jItem);
+            default -> new ChatMember(jItem);
+        };
     }
 
 }
@@ -62,8 +62,8 @@ public class ChatMemberUpdated extends ChatAction {
      */
     public ChatMemberUpdated(JSONObject jChatMemberUpdated) {
         super(jChatMemberUpdated);
-        oldChatMember = new ChatMember(hTelegram.getJSONObject("old_chat_member"));
-        newChatMember = new ChatMember(hTelegram.getJSONObject("new_chat_member"));
+        oldChatMember = ChatMember.getInstance(hTelegram.getJSONObject("old_chat_member"));
+        newChatMember = ChatMember.getInstance(hTelegram.getJSONObject("new_chat_member"));
         viaChatFolderInviteLink = hTelegram.getBoolean("via_chat_folder_invite_link");
     }
 
@@ -9,6 +9,9 @@ import com.tecknobit.telegrammanager.botapi.managers.identifiers.chat.records.Ch
 import com.tecknobit.telegrammanager.botapi.managers.identifiers.chat.records.attachments.Poll;
 import com.tecknobit.telegrammanager.botapi.managers.identifiers.content.records.Audio;
 import com.tecknobit.telegrammanager.botapi.managers.identifiers.content.records.TelegramDocument;
+import com.tecknobit.telegrammanager.botapi.managers.requests.FileIdsCache;
+import com.tecknobit.telegrammanager.botapi.managers.requests.InputFile;
+import com.tecknobit.telegrammanager.botapi.managers.requests.TelegramResponse;
 import com.tecknobit.telegrammanager.botapi.records.basetypes.ForceReply;
 import com.tecknobit.telegrammanager.botapi.records.basetypes.inputmedia.InputMedia;
 import com.tecknobit.telegrammanager.botapi.records.basetypes.inputmedia.InputMedia.InputMediaType;
@@ -19,11 +22,15 @@ import com.tecknobit.telegrammanager.botapi.records.basetypes.message.Message;
 import com.tecknobit.telegrammanager.botapi.records.basetypes.message.MessageEntity;
 import com.tecknobit.telegrammanager.botapi.records.basetypes.message.MessageId;
 import org.json.JSONArray;
+import org.json.JSONObject;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.POST;
+import static com.tecknobit.telegrammanager.botapi.managers.identifiers.content.UpdatingMessagesManager.DELETE_MESSAGE_ENDPOINT;
 import static com.tecknobit.telegrammanager.botapi.managers.TelegramManager.ReturnFormat.LIBRARY_OBJECT;
 import static com.tecknobit.telegrammanager.botapi.records.basetypes.message.Message.returnMessage;
 import static com.tecknobit.telegrammanager.botapi.records.basetypes.message.Message.returnMessages;
@@ -125,6 +132,17 @@ public class ContentManager extends TelegramIdentifierManager {
      */
     public static final String SEND_CHAT_ACTION_ENDPOINT = "sendChatAction";
 
+    /**
+     * {@code BAD_REQUEST_CODE} the status code of the responses to the bad requests
+     */
+    private static final int BAD_REQUEST_CODE = 400;
+
+    /**
+     * {@code INVALID_FILE_ID_ERRORS} the parts of the descriptions of the errors returned by {@code Telegram} when a
+     * {@code file_id} is not valid
+     */
+    private static final String[] INVALID_FILE_ID_ERRORS = {"file identifier", "file_id"};
+
     /**
      * Constructor to init {@link ContentManager}
      *
@@ -555,6 +573,41 @@ public class ContentManager extends TelegramIdentifierManager {
         return returnMessage(sendPostRequest(SEND_MESSAGE_ENDPOINT, parameters), format);
     }
 
+    /**
+     * Request to send text messages asynchronously
+     *
+     * @param chatId: unique identifier for the target chat or username of the target channel
+     * @param text:   text of the message to be sent, 1-4096 characters after entities parsing
+     * @return message as {@link Message} custom object as {@link CompletableFuture}
+     * @apiNote see the official documentation at: <a href="https://core.telegram.org/bots/api#sendmessage">
+     * sendMessage</a>
+     * @see #async(ManagerRequest)
+     */
+    @Wrapper
+    @RequestPath(method = POST, path = "sendMessage")
+    public <T> CompletableFuture<Message> sendMessageAsync(T chatId, String text) {
+        return sendMessageAsync(chatId, text, null, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to send text messages asynchronously
+     *
+     * @param chatId:     unique identifier for the target chat or username of the target channel
+     * @param text:       text of the message to be sent, 1-4096 characters after entities parsing
+     * @param parameters: additional params of the request, see the keys accepted in
+     *                    {@link #sendMessage(Object, String, TelegramManager.Params, TelegramManager.ReturnFormat)}
+     * @param format      :       return type formatter -> {@link TelegramManager.ReturnFormat}
+     * @return message as {@code "format"} defines as {@link CompletableFuture}
+     * @apiNote see the official documentation at: <a href="https://core.telegram.org/bots/api#sendmessage">
+     * sendMessage</a>
+     * @see #async(ManagerRequest)
+     */
+    @RequestPath(method = POST, path = "sendMessage")
+    public <T, L> CompletableFuture<T> sendMessageAsync(L chatId, String text, TelegramManager.Params parameters,
+                                                        TelegramManager.ReturnFormat format) {
+        return async(() -> sendMessage(chatId, text, parameters, format));
+    }
+
     /**
      * Request to forward messages of any kind. Service messages can't be forwarded
      *
@@ -2352,8 +2405,37 @@ public class ContentManager extends TelegramIdentifierManager {
      */
     @RequestPath(method = POST, path = "sendPhoto")
     public <T, L> T sendPhoto(L chatId, String photo, TelegramManager.Params parameters, TelegramManager.ReturnFormat format) throws IOException {
-        return returnMessage(uploadMedia(SEND_PHOTO_ENDPOINT, chatId, InputMediaType.photo, photo, parameters),
-                format);
+        return sendMedia(SEND_PHOTO_ENDPOINT, chatId, InputMediaType.photo, photo, parameters, format);
+    }
+
+    /**
+     * Request to send photos uploading a new file, the file is streamed with a {@code multipart/form-data} request
+     *
+     * @param chatId:     unique identifier for the target chat or username of the target channel
+     * @param photo:      photo to upload
+     * @param parameters: other request parameters, see {@link #sendPhoto(Object, String, TelegramManager.Params,
+     *                    TelegramManager.ReturnFormat)} for the full list
+     * @param format      :       return type formatter -> {@link TelegramManager.ReturnFormat}
+     * @return message as {@code "format"} defines
+     * @throws IOException when request has been go wrong -> you can use these methods to get more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote see the official documentation at: <a href="https://core.telegram.org/bots/api#sendphoto">
+     * sendPhoto</a>
+     */
+    @RequestPath(method = POST, path = "sendPhoto")
+    public <T, L> T sendPhoto(L chatId, InputFile photo, TelegramManager.Params parameters,
+                              TelegramManager.ReturnFormat format) throws IOException {
+        return sendMedia(SEND_PHOTO_ENDPOINT, chatId, InputMediaType.photo, photo, parameters, format);
     }
 
     /**
@@ -2833,8 +2915,37 @@ public class ContentManager extends TelegramIdentifierManager {
      */
     @RequestPath(method = POST, path = "sendAudio")
     public <T, L> T sendAudio(L chatId, String audio, TelegramManager.Params parameters, TelegramManager.ReturnFormat format) throws IOException {
-        return returnMessage(uploadMedia(SEND_AUDIO_ENDPOINT, chatId, InputMediaType.audio, audio, parameters),
-                format);
+        return sendMedia(SEND_AUDIO_ENDPOINT, chatId, InputMediaType.audio, audio, parameters, format);
+    }
+
+    /**
+     * Request to send audio files uploading a new file, the file is streamed with a {@code multipart/form-data} request
+     *
+     * @param chatId:     unique identifier for the target chat or username of the target channel
+     * @param audio:      audio to upload
+     * @param parameters: other request parameters, see {@link #sendAudio(Object, String, TelegramManager.Params,
+     *                    TelegramManager.ReturnFormat)} for the full list
+     * @param format      :       return type formatter -> {@link TelegramManager.ReturnFormat}
+     * @return message as {@code "format"} defines
+     * @throws IOException when request has been go wrong -> you can use these methods to get more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote see the official documentation at: <a href="https://core.telegram.org/bots/api#sendaudio">
+     * sendAudio</a>
+     */
+    @RequestPath(method = POST, path = "sendAudio")
+    public <T, L> T sendAudio(L chatId, InputFile audio, TelegramManager.Params parameters,
+                              TelegramManager.ReturnFormat format) throws IOException {
+        return sendMedia(SEND_AUDIO_ENDPOINT, chatId, InputMediaType.audio, audio, parameters, format);
     }
 
     /**
@@ -3286,8 +3397,37 @@ public class ContentManager extends TelegramIdentifierManager {
      */
     @RequestPath(method = POST, path = "sendDocument")
     public <T, L> T sendDocument(L chatId, String document, TelegramManager.Params parameters, TelegramManager.ReturnFormat format) throws IOException {
-        return returnMessage(uploadMedia(SEND_DOCUMENT_ENDPOINT, chatId, InputMediaType.document, document,
-                parameters), format);
+        return sendMedia(SEND_DOCUMENT_ENDPOINT, chatId, InputMediaType.document, document, parameters, format);
+    }
+
+    /**
+     * Request to send general files uploading a new file, the file is streamed with a {@code multipart/form-data} request
+     *
+     * @param chatId:     unique identifier for the target chat or username of the target channel
+     * @param document:   document to upload
+     * @param parameters: other request parameters, see {@link #sendDocument(Object, String, TelegramManager.Params,
+     *                    TelegramManager.ReturnFormat)} for the full list
+     * @param format      :       return type formatter -> {@link TelegramManager.ReturnFormat}
+     * @return message as {@code "format"} defines
+     * @throws IOException when request has been go wrong -> you can use these methods to get more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote see the official documentation at: <a href="https://core.telegram.org/bots/api#senddocument">
+     * sendDocument</a>
+     */
+    @RequestPath(method = POST, path = "sendDocument")
+    public <T, L> T sendDocument(L chatId, InputFile document, TelegramManager.Params parameters,
+                                 TelegramManager.ReturnFormat format) throws IOException {
+        return sendMedia(SEND_DOCUMENT_ENDPOINT, chatId, InputMediaType.document, document, parameters, format);
     }
 
     /**
@@ -3807,8 +3947,37 @@ public class ContentManager extends TelegramIdentifierManager {
      */
     @RequestPath(method = POST, path = "sendVideo")
     public <T, L> T sendVideo(L chatId, String video, TelegramManager.Params parameters, TelegramManager.ReturnFormat format) throws IOException {
-        return returnMessage(uploadMedia(SEND_VIDEO_ENDPOINT, chatId, InputMediaType.video, video,
-                parameters), format);
+        return sendMedia(SEND_VIDEO_ENDPOINT, chatId, InputMediaType.video, video, parameters, format);
+    }
+
+    /**
+     * Request to send video files uploading a new file, the file is streamed with a {@code multipart/form-data} request
+     *
+     * @param chatId:     unique identifier for the target chat or username of the target channel
+     * @param video:      video to upload
+     * @param parameters: other request parameters, see {@link #sendVideo(Object, String, TelegramManager.Params,
+     *                    TelegramManager.ReturnFormat)} for the full list
+     * @param format      :       return type formatter -> {@link TelegramManager.ReturnFormat}
+     * @return message as {@code "format"} defines
+     * @throws IOException when request has been go wrong -> you can use these methods to get more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote see the official documentation at: <a href="https://core.telegram.org/bots/api#sendvideo">
+     * sendVideo</a>
+     */
+    @RequestPath(method = POST, path = "sendVideo")
+    public <T, L> T sendVideo(L chatId, InputFile video, TelegramManager.Params parameters,
+                              TelegramManager.ReturnFormat format) throws IOException {
+        return sendMedia(SEND_VIDEO_ENDPOINT, chatId, InputMediaType.video, video, parameters, format);
     }
 
     /**
@@ -4296,8 +4465,37 @@ public class ContentManager extends TelegramIdentifierManager {
      */
     @RequestPath(method = POST, path = "sendAnimation")
     public <T, L> T sendAnimation(L chatId, String animation, TelegramManager.Params parameters, TelegramManager.ReturnFormat format) throws IOException {
-        return returnMessage(uploadMedia(SEND_ANIMATION_ENDPOINT, chatId, InputMediaType.animation, animation,
-                parameters), format);
+        return sendMedia(SEND_ANIMATION_ENDPOINT, chatId, InputMediaType.animation, animation, parameters, format);
+    }
+
+    /**
+     * Request to send animation files uploading a new file, the file is streamed with a {@code multipart/form-data} request
+     *
+     * @param chatId:     unique identifier for the target chat or username of the target channel
+     * @param animation:  animation to upload
+     * @param parameters: other request parameters, see {@link #sendAnimation(Object, String, TelegramManager.Params,
+     *                    TelegramManager.ReturnFormat)} for the full list
+     * @param format      :       return type formatter -> {@link TelegramManager.ReturnFormat}
+     * @return message as {@code "format"} defines
+     * @throws IOException when request has been go wrong -> you can use these methods to get more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote see the official documentation at: <a href="https://core.telegram.org/bots/api#sendanimation">
+     * sendAnimation</a>
+     */
+    @RequestPath(method = POST, path = "sendAnimation")
+    public <T, L> T sendAnimation(L chatId, InputFile animation, TelegramManager.Params parameters,
+                                  TelegramManager.ReturnFormat format) throws IOException {
+        return sendMedia(SEND_ANIMATION_ENDPOINT, chatId, InputMediaType.animation, animation, parameters, format);
     }
 
     /**
@@ -4725,8 +4923,37 @@ public class ContentManager extends TelegramIdentifierManager {
      */
     @RequestPath(method = POST, path = "sendVoice")
     public <T, L> T sendVoice(L chatId, String voice, TelegramManager.Params parameters, TelegramManager.ReturnFormat format) throws IOException {
-        return returnMessage(uploadMedia(SEND_VOICE_ENDPOINT, chatId, "voice", voice,
-                parameters), format);
+        return sendMedia(SEND_VOICE_ENDPOINT, chatId, "voice", voice, parameters, format);
+    }
+
+    /**
+     * Request to send voice messages uploading a new file, the file is streamed with a {@code multipart/form-data} request
+     *
+     * @param chatId:     unique identifier for the target chat or username of the target channel
+     * @param voice:      voice to upload
+     * @param parameters: other request parameters, see {@link #sendVoice(Object, String, TelegramManager.Params,
+     *                    TelegramManager.ReturnFormat)} for the full list
+     * @param format      :       return type formatter -> {@link TelegramManager.ReturnFormat}
+     * @return message as {@code "format"} defines
+     * @throws IOException when request has been go wrong -> you can use these methods to get more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote see the official documentation at: <a href="https://core.telegram.org/bots/api#sendvoice">
+     * sendVoice</a>
+     */
+    @RequestPath(method = POST, path = "sendVoice")
+    public <T, L> T sendVoice(L chatId, InputFile voice, TelegramManager.Params parameters,
+                              TelegramManager.ReturnFormat format) throws IOException {
+        return sendMedia(SEND_VOICE_ENDPOINT, chatId, "voice", voice, parameters, format);
     }
 
     /**
@@ -5182,8 +5409,37 @@ public class ContentManager extends TelegramIdentifierManager {
      */
     @RequestPath(method = POST, path = "sendVideoNote")
     public <T, L> T sendVideoNote(L chatId, String videoNote, TelegramManager.Params parameters, TelegramManager.ReturnFormat format) throws IOException {
-        return returnMessage(uploadMedia(SEND_VIDEO_NOTE_ENDPOINT, chatId, "video_note", videoNote,
-                parameters), format);
+        return sendMedia(SEND_VIDEO_NOTE_ENDPOINT, chatId, "video_note", videoNote, parameters, format);
+    }
+
+    /**
+     * Request to send video messages uploading a new file, the file is streamed with a {@code multipart/form-data} request
+     *
+     * @param chatId:     unique identifier for the target chat or username of the target channel
+     * @param videoNote:  video note to upload
+     * @param parameters: other request parameters, see {@link #sendVideoNote(Object, String, TelegramManager.Params,
+     *                    TelegramManager.ReturnFormat)} for the full list
+     * @param format      :       return type formatter -> {@link TelegramManager.ReturnFormat}
+     * @return message as {@code "format"} defines
+     * @throws IOException when request has been go wrong -> you can use these methods to get more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote see the official documentation at: <a href="https://core.telegram.org/bots/api#sendvideonote">
+     * sendVideoNote</a>
+     */
+    @RequestPath(method = POST, path = "sendVideoNote")
+    public <T, L> T sendVideoNote(L chatId, InputFile videoNote, TelegramManager.Params parameters,
+                                  TelegramManager.ReturnFormat format) throws IOException {
+        return sendMedia(SEND_VIDEO_NOTE_ENDPOINT, chatId, "video_note", videoNote, parameters, format);
     }
 
     /**
@@ -5499,6 +5755,106 @@ public class ContentManager extends TelegramIdentifierManager {
                 parameters), format);
     }
 
+    /**
+     * Request to send a group of photos, videos, documents or audios as an album, the files not uploaded yet are
+     * uploaded at the same time before sending the album
+     *
+     * @param chatId:       unique identifier for the target chat or username of the target channel
+     * @param uploadChatId: unique identifier of the chat where the files are uploaded to get their identifiers, for
+     *                      example a private channel of the bot
+     * @param mediaGroup:   group media to send
+     * @return messages list as {@link ArrayList} of {@link Message} custom object
+     * @throws IOException when request has been go wrong -> you can use these methods to get more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote see the official documentation at: <a href="https://core.telegram.org/bots/api#sendMediaGroup">
+     * sendMediaGroup</a>
+     */
+    @Wrapper
+    @RequestPath(method = POST, path = "sendMediaGroup")
+    public <L, U> ArrayList<Message> sendMediaGroup(L chatId, U uploadChatId,
+                                                    MediaGroupUpload mediaGroup) throws IOException {
+        return sendMediaGroup(chatId, uploadChatId, mediaGroup, null, LIBRARY_OBJECT);
+    }
+
+    /**
+     * Request to send a group of photos, videos, documents or audios as an album, the files not uploaded yet are
+     * uploaded at the same time before sending the album
+     *
+     * @param chatId:       unique identifier for the target chat or username of the target channel
+     * @param uploadChatId: unique identifier of the chat where the files are uploaded to get their identifiers, for
+     *                      example a private channel of the bot
+     * @param mediaGroup:   group media to send
+     * @param parameters:   additional params of the request, keys accepted are:
+     *                      <ul>
+     *                          <li>
+     *                               {@code "message_thread_id"} -> unique identifier for the target message thread
+     *                               (topic) of the forum; for forum supergroups only - [Integer]
+     *                          </li>
+     *                          <li>
+     *                               {@code "disable_notification"} -> sends the message silently. Users will receive a
+     *                               notification with no sound - [Boolean]
+     *                          </li>
+     *                          <li>
+     *                               {@code "protect_content"} -> protects the contents of the sent message from
+     *                               forwarding and saving - [Boolean]
+     *                          </li>
+     *                          <li>
+     *                               {@code "reply_to_message_id"} -> if the message is a reply, ID of the original
+     *                               message - [Integer]
+     *                          </li>
+     *                          <li>
+     *                               {@code "allow_sending_without_reply"} -> if the message should be sent even if the
+     *                               specified replied-to message is not found - [Boolean]
+     *                          </li>
+     *                      </ul>
+     * @param format:       return type formatter -> {@link TelegramManager.ReturnFormat}
+     * @return messages list as {@code "format"} defines
+     * @throws IOException when request has been go wrong -> you can use these methods to get more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote the identifiers of the files uploaded are kept in the media group, so when the album cannot be sent
+     * this method can be invoked again without uploading again the files. When an identifier reused from the
+     * {@link #getFileIdsCache()} is rejected by {@code Telegram} as not valid, the file is uploaded again and the
+     * album is sent again, the other errors are thrown without uploading again the files. See the official
+     * documentation at: <a href="https://core.telegram.org/bots/api#sendMediaGroup">sendMediaGroup</a>
+     */
+    @RequestPath(method = POST, path = "sendMediaGroup")
+    public <T, L, U> T sendMediaGroup(L chatId, U uploadChatId, MediaGroupUpload mediaGroup,
+                                      TelegramManager.Params parameters,
+                                      TelegramManager.ReturnFormat format) throws IOException {
+        mediaGroup.upload(this, uploadChatId);
+        try {
+            return returnMessages(uploadMedia(SEND_MEDIA_GROUP_ENDPOINT, chatId, "media", mediaGroup.toJSONArray(),
+                    parameters != null ? parameters.copy() : null), format);
+        } catch (IOException e) {
+            FileIdsCache cache = getFileIdsCache();
+            if (!isInvalidFileIdError() || cache == null || !mediaGroup.forgetCachedFileIds(cache))
+                throw e;
+        }
+        mediaGroup.upload(this, uploadChatId);
+        return returnMessages(uploadMedia(SEND_MEDIA_GROUP_ENDPOINT, chatId, "media", mediaGroup.toJSONArray(),
+                parameters), format);
+    }
+
     /**
      * Request to send point on the map
      *
@@ -7611,4 +7967,106 @@ public class ContentManager extends TelegramIdentifierManager {
         return getBooleanResponse(sendPostRequest(SEND_CHAT_ACTION_ENDPOINT, parameters));
     }
 
+    /**
+     * Method to upload a file of a media group
+     *
+     * @param uploadChatId:  unique identifier of the chat where the file is uploaded
+     * @param mediaType:     type of the media to upload
+     * @param file:          the file to upload
+     * @param deleteMessage: whether delete the message sent to upload the file
+     * @param errorListener: the listener of the messages sent to upload the file which have not been deleted, can be
+     *                       {@code "null"}
+     * @return identifier of the file uploaded as {@link String}
+     * @throws IOException when the file has not been uploaded
+     */
+    String uploadMediaGroupItem(Object uploadChatId, String mediaType, InputFile file, boolean deleteMessage,
+                                Consumer<IOException> errorListener) throws IOException {
+        String endpoint = switch (InputMediaType.valueOf(mediaType)) {
+            case photo -> SEND_PHOTO_ENDPOINT;
+            case video -> SEND_VIDEO_ENDPOINT;
+            case animation -> SEND_ANIMATION_ENDPOINT;
+            case audio -> SEND_AUDIO_ENDPOINT;
+            case document -> SEND_DOCUMENT_ENDPOINT;
+        };
+        TelegramManager.Params parameters = new TelegramManager.Params();
+        parameters.addParam("disable_notification", true);
+        JSONObject jResponse = new JSONObject(uploadMedia(endpoint, uploadChatId, mediaType, file, parameters));
+        String fileId = FileIdsCache.fetchFileId(jResponse);
+        if (fileId == null)
+            throw new IOException("The identifier of the file uploaded is not available");
+        if (deleteMessage) {
+            TelegramManager.Params payload = createChatIdPayload(uploadChatId, null);
+            payload.addParam("message_id", jResponse.getJSONObject("result").getLong("message_id"));
+            try {
+                sendPostRequest(DELETE_MESSAGE_ENDPOINT, payload);
+            } catch (IOException e) {
+                if (errorListener != null)
+                    errorListener.accept(e);
+            }
+        }
+        return fileId;
+    }
+
+    /**
+     * Method to send a media, if the {@link #getFileIdsCache()} is set the identifier of a media already sent is reused
+     * instead of uploading again the same content
+     *
+     * @param endpoint:   the endpoint of the request
+     * @param chatId:     unique identifier for the target chat or username of the target channel
+     * @param mediaType:  type of the media to send
+     * @param media:      the media to send as {@link InputFile} or {@link String}
+     * @param parameters: other request parameters
+     * @param format:     return type formatter -> {@link TelegramManager.ReturnFormat}
+     * @return message as {@code "format"} defines
+     * @apiNote when a cached identifier is rejected by {@code Telegram} as not valid it is removed and the media is
+     * sent again, the other errors are thrown without sending again the media
+     */
+    private <T, L> T sendMedia(String endpoint, L chatId, Object mediaType, Object media,
+                               TelegramManager.Params parameters, TelegramManager.ReturnFormat format) throws IOException {
+        FileIdsCache cache = getFileIdsCache();
+        String key = null;
+        if (cache != null)
+            key = cache.getKey(mediaType.toString(), media);
+        if (key != null) {
+            String fileId = cache.getFileId(key);
+            if (fileId != null) {
+                try {
+                    return returnMessage(uploadMedia(endpoint, chatId, mediaType, fileId,
+                            parameters != null ? parameters.copy() : null), format);
+                } catch (IOException e) {
+                    if (!isInvalidFileIdError())
+                        throw e;
+                    cache.removeFileId(key);
+                }
+            }
+        }
+        String response = uploadMedia(endpoint, chatId, mediaType, media, parameters);
+        if (key != null) {
+            String fileId = FileIdsCache.fetchFileId(new JSONObject(response));
+            if (fileId != null)
+                cache.putFileId(key, fileId);
+        }
+        return returnMessage(response, format);
+    }
+
+    /**
+     * Method to get whether the last request of the current thread has been rejected because of a {@code file_id} not
+     * valid <br>
+     * No-any params required
+     *
+     * @return whether the {@code file_id} sent is not valid as boolean
+     * @apiNote the response of the current thread is used, so the responses of the other threads are ignored also when
+     * the concurrent mode is disabled
+     */
+    private boolean isInvalidFileIdError() {
+        TelegramResponse response = getThreadResponse();
+        if (response == null || response.getStatusCode() != BAD_REQUEST_CODE || response.getErrorResponse() == null)
+            return false;
+        String error = response.getErrorResponse().toLowerCase();
+        for (String invalidFileIdError : INVALID_FILE_ID_ERRORS)
+            if (error.contains(invalidFileIdError))
+                return true;
+        return false;
+    }
+
 }
@@ -0,0 +1,597 @@
+package com.tecknobit.telegrammanager.botapi.managers.identifiers.content;
+
+import com.tecknobit.telegrammanager.botapi.managers.TelegramManager.Params;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.function.Consumer;
+
+import static com.tecknobit.telegrammanager.botapi.managers.identifiers.content.UpdatingMessagesManager.*;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * The {@code LiveLocationStreamer} class is useful to update a live location with a stream of positions faster than
+ * the edits allowed: only the latest position is kept, it is sent at most once per {@link #minInterval} and only when
+ * it is far enough from the position already sent or the heading has changed enough
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the live location is stopped automatically with {@code stopMessageLiveLocation} when its live period
+ * expires, see {@link UpdatingMessagesManager#getLiveLocationStreamer(Object, long, long)} to get the streamer of a
+ * message
+ */
+public class LiveLocationStreamer implements Closeable {
+
+    /**
+     * {@code DEFAULT_MIN_DISTANCE} default distance in meters from the position already sent to send a new position
+     */
+    public static final double DEFAULT_MIN_DISTANCE = 25;
+
+    /**
+     * {@code DEFAULT_MIN_HEADING_DELTA} default change in degrees of the heading already sent to send a new position
+     */
+    public static final int DEFAULT_MIN_HEADING_DELTA = 20;
+
+    /**
+     * {@code INDEFINITE_LIVE_PERIOD} the live period of the live locations which can be edited indefinitely
+     */
+    public static final long INDEFINITE_LIVE_PERIOD = 0x7FFFFFFF;
+
+    /**
+     * {@code STOP_ADVANCE} time in millis before the expiration of the live period when the live location is stopped,
+     * so the request is sent while the message can still be edited
+     */
+    private static final long STOP_ADVANCE = 2000;
+
+    /**
+     * {@code EARTH_RADIUS} mean radius of the Earth in meters
+     */
+    private static final double EARTH_RADIUS = 6371008.8;
+
+    /**
+     * {@code EXPIRATION_SCHEDULER} the scheduler of the expirations of the live periods, the expirations cancelled are
+     * removed from its queue so the streamers stopped are not kept reachable until their live period expires
+     */
+    private static final ScheduledThreadPoolExecutor EXPIRATION_SCHEDULER;
+
+    static {
+        EXPIRATION_SCHEDULER = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "live-location-expiration");
+            thread.setDaemon(true);
+            return thread;
+        });
+        EXPIRATION_SCHEDULER.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * {@code manager} the manager used to edit the live location
+     */
+    private final UpdatingMessagesManager manager;
+
+    /**
+     * {@code chatId} unique identifier for the target chat or username of the target channel
+     */
+    private final Object chatId;
+
+    /**
+     * {@code messageId} identifier of the message with the live location
+     */
+    private final long messageId;
+
+    /**
+     * {@code minInterval} the time in millis between two edits of the live location
+     */
+    private final long minInterval;
+
+    /**
+     * {@code minDistance} distance in meters from the position already sent to send a new position
+     */
+    private final double minDistance;
+
+    /**
+     * {@code minHeadingDelta} change in degrees of the heading already sent to send a new position, {@code "0"} if
+     * the changes of the heading are ignored
+     */
+    private final int minHeadingDelta;
+
+    /**
+     * {@code desired} the latest position received, can be {@code "null"}
+     */
+    private Position desired;
+
+    /**
+     * {@code sent} the position already sent, can be {@code "null"}
+     */
+    private Position sent;
+
+    /**
+     * {@code lastEditTime} the time in nanos of the last edit sent
+     */
+    private long lastEditTime;
+
+    /**
+     * {@code scheduled} whether an edit is scheduled or in flight
+     */
+    private boolean scheduled;
+
+    /**
+     * {@code stopped} whether the live location has been stopped
+     */
+    private boolean stopped;
+
+    /**
+     * {@code expiration} the expiration of the live period scheduled, {@code "null"} if it never expires
+     */
+    private ScheduledFuture<?> expiration;
+
+    /**
+     * {@code errorListener} the listener of the requests not sent, can be {@code "null"}
+     */
+    private Consumer<IOException> errorListener;
+
+    /**
+     * Constructor to init {@link LiveLocationStreamer} with the {@link #DEFAULT_MIN_DISTANCE}, the
+     * {@link #DEFAULT_MIN_HEADING_DELTA} and the {@link MessageEditor#getDefaultMinInterval(Object)}
+     *
+     * @param manager:    the manager used to edit the live location
+     * @param chatId:     unique identifier for the target chat or username of the target channel
+     * @param messageId:  identifier of the message with the live location
+     * @param livePeriod: the seconds remaining of the live period, {@link #INDEFINITE_LIVE_PERIOD} if it never expires
+     */
+    public LiveLocationStreamer(UpdatingMessagesManager manager, Object chatId, long messageId, long livePeriod) {
+        this(manager, chatId, messageId, livePeriod, MessageEditor.getDefaultMinInterval(chatId),
+                DEFAULT_MIN_DISTANCE, DEFAULT_MIN_HEADING_DELTA);
+    }
+
+    /**
+     * Constructor to init {@link LiveLocationStreamer}
+     *
+     * @param manager:         the manager used to edit the live location
+     * @param chatId:          unique identifier for the target chat or username of the target channel
+     * @param messageId:       identifier of the message with the live location
+     * @param livePeriod:      the seconds remaining of the live period, {@link #INDEFINITE_LIVE_PERIOD} if it never
+     *                         expires
+     * @param minInterval:     the time in millis between two edits of the live location
+     * @param minDistance:     distance in meters from the position already sent to send a new position
+     * @param minHeadingDelta: change in degrees of the heading already sent to send a new position, {@code "0"} to
+     *                         ignore the changes of the heading
+     */
+    public LiveLocationStreamer(UpdatingMessagesManager manager, Object chatId, long messageId, long livePeriod,
+                                long minInterval, double minDistance, int minHeadingDelta) {
+        if (minInterval < 0 || minDistance < 0 || minHeadingDelta < 0)
+            throw new IllegalArgumentException("The thresholds cannot be negative");
+        this.manager = manager;
+        this.chatId = chatId;
+        this.messageId = messageId;
+        this.minInterval = minInterval;
+        this.minDistance = minDistance;
+        this.minHeadingDelta = minHeadingDelta;
+        lastEditTime = System.nanoTime() - MILLISECONDS.toNanos(minInterval);
+        setLivePeriod(livePeriod);
+    }
+
+    /**
+     * Method to set the seconds remaining of the live period, the live location is stopped automatically when they
+     * expire
+     *
+     * @param livePeriod: the seconds remaining of the live period, {@link #INDEFINITE_LIVE_PERIOD} if it never expires
+     * @apiNote the expiration scheduled before is replaced, so this method can be used when the live period has been
+     * extended; it has no effect if the live location has been stopped
+     */
+    public synchronized void setLivePeriod(long livePeriod) {
+        if (livePeriod <= 0)
+            throw new IllegalArgumentException("The live period must be positive");
+        if (stopped)
+            return;
+        if (expiration != null)
+            expiration.cancel(false);
+        expiration = null;
+        if (livePeriod != INDEFINITE_LIVE_PERIOD) {
+            long stopDelay = Math.max(0, livePeriod * 1000 - STOP_ADVANCE);
+            expiration = EXPIRATION_SCHEDULER.schedule(() -> manager.getAsyncExecutor().execute(this::expire),
+                    stopDelay, MILLISECONDS);
+        }
+    }
+
+    /**
+     * Method to stop the live location when its live period expires <br>
+     * No-any params required
+     */
+    private void expire() {
+        try {
+            stop(false);
+        } catch (IOException e) {
+            notifyError(e);
+        }
+    }
+
+    /**
+     * Method to receive a new position
+     *
+     * @param latitude:  latitude of the new position
+     * @param longitude: longitude of the new position
+     * @return whether the position has been received as boolean, {@code "false"} if the live location has been stopped
+     */
+    public boolean update(double latitude, double longitude) {
+        return update(latitude, longitude, 0, 0);
+    }
+
+    /**
+     * Method to receive a new position
+     *
+     * @param latitude:           latitude of the new position
+     * @param longitude:          longitude of the new position
+     * @param heading:            the direction in which the user is moving, in degrees 1-360, {@code "0"} if unknown
+     * @param horizontalAccuracy: the radius of uncertainty for the position in meters 0-1500, {@code "0"} if unknown
+     * @return whether the position has been received as boolean, {@code "false"} if the live location has been stopped
+     */
+    public synchronized boolean update(double latitude, double longitude, int heading, int horizontalAccuracy) {
+        if (stopped)
+            return false;
+        desired = new Position(latitude, longitude, heading, horizontalAccuracy);
+        requestEdit();
+        return true;
+    }
+
+    /**
+     * Method to get whether the latest position received must be sent <br>
+     * No-any params required
+     *
+     * @return whether the latest position must be sent as boolean
+     */
+    private boolean isSignificant() {
+        if (desired == null)
+            return false;
+        if (sent == null)
+            return true;
+        if (desired.distanceTo(sent) >= minDistance)
+            return true;
+        return minHeadingDelta > 0 && desired.headingDeltaTo(sent) >= minHeadingDelta;
+    }
+
+    /**
+     * Method to schedule the edit of the live location if it is not already scheduled <br>
+     * No-any params required
+     */
+    private void requestEdit() {
+        if (scheduled || stopped || !isSignificant())
+            return;
+        scheduled = true;
+        long delay = Math.max(0, NANOSECONDS.toMillis(lastEditTime - System.nanoTime()) + minInterval);
+        CompletableFuture.delayedExecutor(delay, MILLISECONDS, manager.getAsyncExecutor()).execute(this::sendEdit);
+    }
+
+    /**
+     * Method to send the latest position received <br>
+     * No-any params required
+     */
+    private void sendEdit() {
+        Position position;
+        synchronized (this) {
+            if (stopped || !isSignificant()) {
+                scheduled = false;
+                notifyAll();
+                return;
+            }
+            position = desired;
+        }
+        IOException error = null;
+        try {
+            sendPosition(position);
+        } catch (IOException e) {
+            error = e;
+        }
+        synchronized (this) {
+            lastEditTime = System.nanoTime();
+            scheduled = false;
+            if (error == null) {
+                sent = position;
+                requestEdit();
+            }
+            notifyAll();
+        }
+        if (error != null)
+            notifyError(error);
+    }
+
+    /**
+     * Method to edit the live location with a position
+     *
+     * @param position: the position to send
+     * @throws IOException when the live location has not been edited
+     */
+    private void sendPosition(Position position) throws IOException {
+        Params params = createParams();
+        params.addParam("latitude", position.latitude);
+        params.addParam("longitude", position.longitude);
+        if (position.heading > 0)
+            params.addParam("heading", position.heading);
+        if (position.horizontalAccuracy > 0)
+            params.addParam("horizontal_accuracy", position.horizontalAccuracy);
+        manager.sendPostRequest(EDIT_MESSAGE_LIVE_LOCATION_ENDPOINT, params);
+    }
+
+    /**
+     * Method to stop the live location, the positions received later are ignored <br>
+     * No-any params required
+     *
+     * @throws IOException when the live location has not been stopped -> you can use these methods to get more
+     *                     details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link UpdatingMessagesManager#getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link UpdatingMessagesManager#getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link UpdatingMessagesManager#printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote the latest position received is sent before stopping the live location
+     */
+    public void stop() throws IOException {
+        stop(true);
+    }
+
+    /**
+     * Method to stop the live location
+     *
+     * @param sendLatest: whether send the latest position received before stopping the live location
+     * @throws IOException when the live location has not been stopped
+     */
+    private void stop(boolean sendLatest) throws IOException {
+        synchronized (this) {
+            if (stopped)
+                return;
+            stopped = true;
+            if (expiration != null)
+                expiration.cancel(false);
+            expiration = null;
+        }
+        Position position;
+        try {
+            position = awaitLatest(sendLatest);
+        } finally {
+            manager.removeLiveLocationStreamer(chatId, messageId, this);
+        }
+        if (position != null) {
+            try {
+                sendPosition(position);
+            } catch (IOException e) {
+                notifyError(e);
+            }
+        }
+        manager.sendPostRequest(STOP_MESSAGE_LIVE_LOCATION_ENDPOINT, createParams());
+    }
+
+    /**
+     * Method to wait until the edit scheduled or in flight has been completed
+     *
+     * @param sendLatest: whether send the latest position received before stopping the live location
+     * @return the latest position not sent as {@link Position}, {@code "null"} if there is no position to send
+     * @throws InterruptedIOException when the current thread is interrupted while waiting
+     */
+    private synchronized Position awaitLatest(boolean sendLatest) throws InterruptedIOException {
+        try {
+            while (scheduled)
+                wait();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while stopping the live location");
+        }
+        return sendLatest && desired != null && !desired.equals(sent) ? desired : null;
+    }
+
+    /**
+     * Method to stop the live location <br>
+     * No-any params required
+     *
+     * @throws IOException when the live location has not been stopped
+     */
+    @Override
+    public void close() throws IOException {
+        stop();
+    }
+
+    /**
+     * Method to create the params which identify the message <br>
+     * No-any params required
+     *
+     * @return params as {@link Params}
+     */
+    private Params createParams() {
+        Params params = new Params();
+        params.addParam("chat_id", chatId);
+        params.addParam("message_id", messageId);
+        return params;
+    }
+
+    /**
+     * Method to notify a request not sent to the {@link #errorListener}
+     *
+     * @param error: the error of the request
+     */
+    private void notifyError(IOException error) {
+        Consumer<IOException> listener;
+        synchronized (this) {
+            listener = errorListener;
+        }
+        if (listener != null)
+            listener.accept(error);
+    }
+
+    /**
+     * Method to set {@link #errorListener} instance
+     *
+     * @param errorListener: the listener of the requests not sent, {@code "null"} to ignore them
+     * @apiNote the position not sent is sent again with the next significant position received
+     */
+    public synchronized void setErrorListener(Consumer<IOException> errorListener) {
+        this.errorListener = errorListener;
+    }
+
+    /**
+     * Method to get {@link #chatId} instance <br>
+     * No-any params required
+     *
+     * @return {@link #chatId} instance as {@link Object}
+     */
+    public Object getChatId() {
+        return chatId;
+    }
+
+    /**
+     * Method to get {@link #messageId} instance <br>
+     * No-any params required
+     *
+     * @return {@link #messageId} instance as long
+     */
+    public long getMessageId() {
+        return messageId;
+    }
+
+    /**
+     * Method to get {@link #minInterval} instance <br>
+     * No-any params required
+     *
+     * @return {@link #minInterval} instance as long
+     */
+    public long getMinInterval() {
+        return minInterval;
+    }
+
+    /**
+     * Method to get {@link #minDistance} instance <br>
+     * No-any params required
+     *
+     * @return {@link #minDistance} instance as double
+     */
+    public double getMinDistance() {
+        return minDistance;
+    }
+
+    /**
+     * Method to get {@link #minHeadingDelta} instance <br>
+     * No-any params required
+     *
+     * @return {@link #minHeadingDelta} instance as int
+     */
+    public int getMinHeadingDelta() {
+        return minHeadingDelta;
+    }
+
+    /**
+     * Method to get whether the live location has been stopped <br>
+     * No-any params required
+     *
+     * @return whether the live location has been stopped as boolean
+     */
+    public synchronized boolean isStopped() {
+        return stopped;
+    }
+
+    /**
+     * The {@code Position} class is useful to hold a position of the live location
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    private static class Position {
+
+        /**
+         * {@code latitude} latitude of the position
+         */
+        private final double latitude;
+
+        /**
+         * {@code longitude} longitude of the position
+         */
+        private final double longitude;
+
+        /**
+         * {@code heading} the direction in which the user is moving, in degrees 1-360, {@code "0"} if unknown
+         */
+        private final int heading;
+
+        /**
+         * {@code horizontalAccuracy} the radius of uncertainty for the position in meters, {@code "0"} if unknown
+         */
+        private final int horizontalAccuracy;
+
+        /**
+         * Constructor to init {@link Position}
+         *
+         * @param latitude:           latitude of the position
+         * @param longitude:          longitude of the position
+         * @param heading:            the direction in which the user is moving, in degrees 1-360, {@code "0"} if
+         *                            unknown
+         * @param horizontalAccuracy: the radius of uncertainty for the position in meters, {@code "0"} if unknown
+         */
+        private Position(double latitude, double longitude, int heading, int horizontalAccuracy) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.heading = heading;
+            this.horizontalAccuracy = horizontalAccuracy;
+        }
+
+        /**
+         * Method to get the great-circle distance from another position
+         *
+         * @param position: the other position
+         * @return distance in meters as double
+         */
+        private double distanceTo(Position position) {
+            double dLatitude = Math.toRadians(position.latitude - latitude);
+            double dLongitude = Math.toRadians(position.longitude - longitude);
+            double a = Math.pow(Math.sin(dLatitude / 2), 2) + Math.cos(Math.toRadians(latitude))
+                    * Math.cos(Math.toRadians(position.latitude)) * Math.pow(Math.sin(dLongitude / 2), 2);
+            return 2 * EARTH_RADIUS * Math.asin(Math.min(1, Math.sqrt(a)));
+        }
+
+        /**
+         * Method to get the change of the heading from another position
+         *
+         * @param position: the other position
+         * @return change in degrees 0-180 as int, {@code "0"} if any heading is unknown
+         */
+        private int headingDeltaTo(Position position) {
+            if (heading == 0 || position.heading == 0)
+                return 0;
+            int delta = Math.abs(heading - position.heading) % 360;
+            return Math.min(delta, 360 - delta);
+        }
+
+        /**
+         * Indicates whether some other object is "equal to" this one
+         *
+         * @param object: the reference object with which to compare
+         * @return whether the positions are equal as boolean
+         */
+        @Override
+        public boolean equals(Object object) {
+            if (!(object instanceof Position position))
+                return false;
+            return Double.compare(latitude, position.latitude) == 0
+                    && Double.compare(longitude, position.longitude) == 0 && heading == position.heading
+                    && horizontalAccuracy == position.horizontalAccuracy;
+        }
+
+        /**
+         * Returns a hash code value for the object <br>
+         * No-any params required
+         *
+         * @return a hash code value for this object as int
+         */
+        @Override
+        public int hashCode() {
+            return Objects.hash(latitude, longitude, heading, horizontalAccuracy);
+        }
+
+    }
+
+}
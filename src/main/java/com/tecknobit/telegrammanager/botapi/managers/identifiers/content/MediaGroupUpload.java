@@ -0,0 +1,346 @@
+package com.tecknobit.telegrammanager.botapi.managers.identifiers.content;
+
+import com.tecknobit.telegrammanager.botapi.managers.requests.FileIdsCache;
+import com.tecknobit.telegrammanager.botapi.managers.requests.InputFile;
+import com.tecknobit.telegrammanager.botapi.records.basetypes.inputmedia.InputMedia;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+/**
+ * The {@code MediaGroupUpload} class is useful to send an album with files not uploaded yet: the files are uploaded
+ * at the same time before sending the album, then the album is sent with the identifiers of the files only
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the identifiers of the files uploaded are kept, so when the album cannot be sent it can be sent again
+ * without uploading again the files. See {@link ContentManager#sendMediaGroup(Object, Object, MediaGroupUpload)} to
+ * send it
+ */
+public class MediaGroupUpload {
+
+    /**
+     * {@code DEFAULT_PARALLELISM} default number of files uploaded at the same time
+     */
+    public static final int DEFAULT_PARALLELISM = 4;
+
+    /**
+     * {@code items} the items of the album in the order they are shown
+     */
+    private final ArrayList<Item> items;
+
+    /**
+     * {@code parallelism} number of files uploaded at the same time
+     */
+    private final int parallelism;
+
+    /**
+     * {@code deleteUploadMessages} whether delete the messages sent to upload the files
+     */
+    private boolean deleteUploadMessages;
+
+    /**
+     * {@code errorListener} the listener of the messages sent to upload the files which have not been deleted, can be
+     * {@code "null"}
+     */
+    private volatile Consumer<IOException> errorListener;
+
+    /**
+     * Constructor to init {@link MediaGroupUpload} with the {@link #DEFAULT_PARALLELISM} <br>
+     * No-any params required
+     */
+    public MediaGroupUpload() {
+        this(DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * Constructor to init {@link MediaGroupUpload}
+     *
+     * @param parallelism: number of files uploaded at the same time
+     */
+    public MediaGroupUpload(int parallelism) {
+        if (parallelism <= 0)
+            throw new IllegalArgumentException("The parallelism value must be positive");
+        this.parallelism = parallelism;
+        items = new ArrayList<>();
+    }
+
+    /**
+     * Method to add a media already available on the {@code Telegram} servers or by url
+     *
+     * @param media: the media to add, its {@code "media"} value is sent as is
+     * @return the media group itself as {@link MediaGroupUpload}
+     */
+    public synchronized MediaGroupUpload addMedia(InputMedia media) {
+        items.add(new Item(media, null));
+        return this;
+    }
+
+    /**
+     * Method to add a media to upload
+     *
+     * @param media: the media to add, its {@code "media"} value is replaced by the identifier of the file uploaded
+     * @param file:  the file to upload
+     * @return the media group itself as {@link MediaGroupUpload}
+     */
+    public synchronized MediaGroupUpload addMedia(InputMedia media, InputFile file) {
+        items.add(new Item(media, file));
+        return this;
+    }
+
+    /**
+     * Method to upload the files not uploaded yet, this method waits until all the uploads have been completed
+     *
+     * @param manager:      the manager used to upload the files
+     * @param uploadChatId: the chat where the files are uploaded
+     * @throws IOException when any file has not been uploaded, the files uploaded are kept
+     */
+    synchronized void upload(ContentManager manager, Object uploadChatId) throws IOException {
+        ArrayList<Item> pending = new ArrayList<>();
+        for (Item item : items)
+            if (item.file != null && item.fileId == null)
+                pending.add(item);
+        if (pending.isEmpty())
+            return;
+        Executor executor = manager.getAsyncExecutor();
+        Semaphore slots = new Semaphore(parallelism);
+        ArrayList<CompletableFuture<Void>> uploads = new ArrayList<>(pending.size());
+        try {
+            for (Item item : pending) {
+                slots.acquire();
+                uploads.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        item.upload(manager, uploadChatId, deleteUploadMessages, errorListener);
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    } finally {
+                        slots.release();
+                    }
+                }, executor));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while uploading the media group");
+        }
+        IOException failure = null;
+        for (CompletableFuture<Void> upload : uploads) {
+            try {
+                upload.join();
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof IOException ioException)
+                        failure = ioException;
+                    else
+                        failure = new IOException(cause);
+                }
+            }
+        }
+        if (failure != null)
+            throw failure;
+    }
+
+    /**
+     * Method to forget the identifiers of the files which have been reused from the cache of the manager, so they will
+     * be uploaded again
+     *
+     * @param cache: the cache of the manager where the identifiers have been reused from
+     * @return whether any identifier has been forgotten as boolean
+     * @throws IOException when the persistent store of the cache cannot be written
+     */
+    synchronized boolean forgetCachedFileIds(FileIdsCache cache) throws IOException {
+        boolean forgotten = false;
+        for (Item item : items) {
+            if (item.cacheKey != null && item.fileId != null && item.cached) {
+                cache.removeFileId(item.cacheKey);
+                item.fileId = null;
+                item.cached = false;
+                forgotten = true;
+            }
+        }
+        return forgotten;
+    }
+
+    /**
+     * Method to create the album to send <br>
+     * No-any params required
+     *
+     * @return album as {@link JSONArray}
+     * @throws IllegalStateException when any file has not been uploaded yet
+     */
+    synchronized JSONArray toJSONArray() {
+        JSONArray jMedia = new JSONArray();
+        for (Item item : items) {
+            JSONObject jItem = new JSONObject(item.media);
+            if (item.file != null) {
+                if (item.fileId == null)
+                    throw new IllegalStateException("The media group has not been uploaded yet");
+                jItem.put("media", item.fileId);
+            }
+            jMedia.put(jItem);
+        }
+        return jMedia;
+    }
+
+    /**
+     * Method to get the identifier of a file uploaded
+     *
+     * @param index: the index of the media in the album
+     * @return identifier of the file as {@link String}, {@code "null"} if the file has not been uploaded yet or the
+     * media was not a file to upload
+     */
+    public synchronized String getFileId(int index) {
+        return items.get(index).fileId;
+    }
+
+    /**
+     * Method to get whether all the files have been uploaded <br>
+     * No-any params required
+     *
+     * @return whether all the files have been uploaded as boolean
+     */
+    public synchronized boolean isUploaded() {
+        for (Item item : items)
+            if (item.file != null && item.fileId == null)
+                return false;
+        return true;
+    }
+
+    /**
+     * Method to get the number of media of the album <br>
+     * No-any params required
+     *
+     * @return number of media as int
+     */
+    public synchronized int size() {
+        return items.size();
+    }
+
+    /**
+     * Method to get {@link #parallelism} instance <br>
+     * No-any params required
+     *
+     * @return {@link #parallelism} instance as int
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Method to get {@link #deleteUploadMessages} instance <br>
+     * No-any params required
+     *
+     * @return {@link #deleteUploadMessages} instance as boolean
+     */
+    public synchronized boolean isDeleteUploadMessages() {
+        return deleteUploadMessages;
+    }
+
+    /**
+     * Method to set {@link #deleteUploadMessages} instance
+     *
+     * @param deleteUploadMessages: whether delete the messages sent to upload the files, the identifiers of the files
+     *                              remain valid
+     */
+    public synchronized void setDeleteUploadMessages(boolean deleteUploadMessages) {
+        this.deleteUploadMessages = deleteUploadMessages;
+    }
+
+    /**
+     * Method to set {@link #errorListener} instance
+     *
+     * @param errorListener: the listener of the messages sent to upload the files which have not been deleted,
+     *                       {@code "null"} to ignore them
+     * @apiNote a message not deleted does not stop the upload, the identifier of its file remains valid
+     */
+    public void setErrorListener(Consumer<IOException> errorListener) {
+        this.errorListener = errorListener;
+    }
+
+    /**
+     * The {@code Item} class is useful to hold a media of the album
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    private static class Item {
+
+        /**
+         * {@code media} the media of the album
+         */
+        private final InputMedia media;
+
+        /**
+         * {@code file} the file to upload, can be {@code "null"}
+         */
+        private final InputFile file;
+
+        /**
+         * {@code fileId} the identifier of the file uploaded, {@code "null"} if it has not been uploaded yet
+         */
+        private volatile String fileId;
+
+        /**
+         * {@code cacheKey} the key of the file in the cache of the manager, can be {@code "null"}
+         */
+        private volatile String cacheKey;
+
+        /**
+         * {@code cached} whether the {@link #fileId} has been reused from the cache of the manager
+         */
+        private volatile boolean cached;
+
+        /**
+         * Constructor to init {@link Item}
+         *
+         * @param media: the media of the album
+         * @param file:  the file to upload, can be {@code "null"}
+         */
+        private Item(InputMedia media, InputFile file) {
+            this.media = media;
+            this.file = file;
+        }
+
+        /**
+         * Method to upload the file
+         *
+         * @param manager:       the manager used to upload the file
+         * @param uploadChatId:  the chat where the file is uploaded
+         * @param deleteMessage: whether delete the message sent to upload the file
+         * @param errorListener: the listener of the message sent to upload the file if it has not been deleted, can
+         *                       be {@code "null"}
+         * @throws IOException when the file has not been uploaded
+         */
+        private void upload(ContentManager manager, Object uploadChatId, boolean deleteMessage,
+                            Consumer<IOException> errorListener) throws IOException {
+            String mediaType = media.getType().name();
+            FileIdsCache cache = manager.getFileIdsCache();
+            String key = null;
+            if (cache != null)
+                key = cache.getKey(mediaType, file);
+            cacheKey = key;
+            if (key != null) {
+                String cachedFileId = cache.getFileId(key);
+                if (cachedFileId != null) {
+                    cached = true;
+                    fileId = cachedFileId;
+                    return;
+                }
+            }
+            String uploadedFileId = manager.uploadMediaGroupItem(uploadChatId, mediaType, file, deleteMessage,
+                    errorListener);
+            if (key != null)
+                cache.putFileId(key, uploadedFileId);
+            cached = false;
+            fileId = uploadedFileId;
+        }
+
+    }
+
+}
@@ -0,0 +1,473 @@
+package com.tecknobit.telegrammanager.botapi.managers.identifiers.content;
+
+import com.tecknobit.telegrammanager.botapi.managers.TelegramManager.Params;
+import com.tecknobit.telegrammanager.botapi.records.basetypes.keyboard.inline.InlineKeyboardMarkup;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import static com.tecknobit.telegrammanager.botapi.managers.identifiers.content.UpdatingMessagesManager.*;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * The {@code MessageEditor} class is useful to edit a message many times per second, for example to show a progress
+ * bar or a text streamed: only the latest content requested is kept and it is sent at most once per
+ * {@link #minInterval}, the content equal to the content already sent is not sent again
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the editors are shared by message, see {@link UpdatingMessagesManager#getMessageEditor(Object, long)}.
+ * When the text or the caption is edited, the reply markup requested is sent with them, so the inline keyboard of
+ * the message is not removed
+ */
+public class MessageEditor implements Closeable {
+
+    /**
+     * {@code PRIVATE_CHAT_MIN_INTERVAL} default time in millis between two edits of a message in a private chat
+     */
+    public static final long PRIVATE_CHAT_MIN_INTERVAL = 1000;
+
+    /**
+     * {@code GROUP_CHAT_MIN_INTERVAL} default time in millis between two edits of a message in a group or in a channel
+     */
+    public static final long GROUP_CHAT_MIN_INTERVAL = 3000;
+
+    /**
+     * {@code NOT_MODIFIED_ERROR} the error returned by {@code Telegram} when the content sent is equal to the current
+     * one
+     */
+    private static final String NOT_MODIFIED_ERROR = "message is not modified";
+
+    /**
+     * {@code MIN_RETRY_DELAY} minimum time in millis before the first retry of an edit not sent
+     */
+    private static final long MIN_RETRY_DELAY = 1000;
+
+    /**
+     * {@code MAX_RETRY_DELAY} maximum time in millis between two retries of an edit not sent
+     */
+    private static final long MAX_RETRY_DELAY = 60000;
+
+    /**
+     * {@code manager} the manager used to edit the message
+     */
+    private final UpdatingMessagesManager manager;
+
+    /**
+     * {@code chatId} unique identifier for the target chat or username of the target channel
+     */
+    private final Object chatId;
+
+    /**
+     * {@code messageId} identifier of the message to edit
+     */
+    private final long messageId;
+
+    /**
+     * {@code minInterval} the time in millis between two edits of the message
+     */
+    private final long minInterval;
+
+    /**
+     * {@code desired} the latest content requested
+     */
+    private final Content desired;
+
+    /**
+     * {@code sent} the content already sent
+     */
+    private final Content sent;
+
+    /**
+     * {@code lastEditTime} the time in nanos of the last edit sent
+     */
+    private long lastEditTime;
+
+    /**
+     * {@code scheduled} whether an edit is scheduled or in flight
+     */
+    private boolean scheduled;
+
+    /**
+     * {@code lastError} the error of the last edit not sent, can be {@code "null"}
+     */
+    private IOException lastError;
+
+    /**
+     * {@code retryDelay} the time in millis before the last retry of an edit not sent, {@code "0"} if the last edit
+     * has been sent
+     */
+    private long retryDelay;
+
+    /**
+     * {@code completedEdits} the number of the edits completed, sent or not
+     */
+    private long completedEdits;
+
+    /**
+     * {@code errorListener} the listener of the edits not sent, can be {@code "null"}
+     */
+    private Consumer<IOException> errorListener;
+
+    /**
+     * {@code closed} whether the editor has been closed
+     */
+    private boolean closed;
+
+    /**
+     * Constructor to init {@link MessageEditor}
+     *
+     * @param manager:     the manager used to edit the message
+     * @param chatId:      unique identifier for the target chat or username of the target channel
+     * @param messageId:   identifier of the message to edit
+     * @param minInterval: the time in millis between two edits of the message
+     */
+    public MessageEditor(UpdatingMessagesManager manager, Object chatId, long messageId, long minInterval) {
+        if (minInterval < 0)
+            throw new IllegalArgumentException("The minimum interval cannot be negative");
+        this.manager = manager;
+        this.chatId = chatId;
+        this.messageId = messageId;
+        this.minInterval = minInterval;
+        desired = new Content();
+        sent = new Content();
+        lastEditTime = System.nanoTime() - MILLISECONDS.toNanos(minInterval);
+    }
+
+    /**
+     * Method to get the default time between two edits of a message in a chat
+     *
+     * @param chatId: unique identifier for the target chat or username of the target channel
+     * @return time in millis as long
+     * @apiNote the groups, the supergroups and the channels have a negative identifier or a username
+     */
+    public static long getDefaultMinInterval(Object chatId) {
+        if (chatId instanceof Number id && id.longValue() > 0)
+            return PRIVATE_CHAT_MIN_INTERVAL;
+        return GROUP_CHAT_MIN_INTERVAL;
+    }
+
+    /**
+     * Method to request a new text of the message
+     *
+     * @param text: new text of the message, 1-4096 characters after entities parsing
+     */
+    public void setText(String text) {
+        setText(text, null);
+    }
+
+    /**
+     * Method to request a new text of the message
+     *
+     * @param text:      new text of the message, 1-4096 characters after entities parsing
+     * @param parseMode: mode for parsing entities in the message text, can be {@code "null"}
+     */
+    public synchronized void setText(String text, String parseMode) {
+        desired.text = text;
+        desired.parseMode = parseMode;
+        requestEdit();
+    }
+
+    /**
+     * Method to request a new caption of the message
+     *
+     * @param caption: new caption of the message, 0-1024 characters after entities parsing
+     */
+    public void setCaption(String caption) {
+        setCaption(caption, null);
+    }
+
+    /**
+     * Method to request a new caption of the message
+     *
+     * @param caption:   new caption of the message, 0-1024 characters after entities parsing
+     * @param parseMode: mode for parsing entities in the message caption, can be {@code "null"}
+     */
+    public synchronized void setCaption(String caption, String parseMode) {
+        desired.caption = caption;
+        desired.parseMode = parseMode;
+        requestEdit();
+    }
+
+    /**
+     * Method to request a new reply markup of the message
+     *
+     * @param replyMarkup: new inline keyboard of the message
+     */
+    public synchronized void setReplyMarkup(InlineKeyboardMarkup replyMarkup) {
+        desired.replyMarkup = replyMarkup != null ? replyMarkup.toString() : null;
+        requestEdit();
+    }
+
+    /**
+     * Method to schedule the edit of the message if it is not already scheduled <br>
+     * No-any params required
+     */
+    private void requestEdit() {
+        if (closed)
+            throw new IllegalStateException("The editor has been closed");
+        if (scheduled || desired.equals(sent))
+            return;
+        scheduled = true;
+        long delay = Math.max(0, NANOSECONDS.toMillis(lastEditTime - System.nanoTime()) + minInterval);
+        CompletableFuture.delayedExecutor(delay, MILLISECONDS, manager.getAsyncExecutor()).execute(this::sendEdit);
+    }
+
+    /**
+     * Method to send the latest content requested <br>
+     * No-any params required
+     */
+    private void sendEdit() {
+        Content content;
+        synchronized (this) {
+            if (closed || desired.equals(sent)) {
+                scheduled = false;
+                notifyAll();
+                return;
+            }
+            content = desired.copy();
+        }
+        IOException error = null;
+        try {
+            edit(content);
+        } catch (IOException e) {
+            if (e.getMessage() == null || !e.getMessage().contains(NOT_MODIFIED_ERROR))
+                error = e;
+        }
+        Consumer<IOException> listener;
+        synchronized (this) {
+            lastEditTime = System.nanoTime();
+            scheduled = false;
+            lastError = error;
+            completedEdits++;
+            listener = errorListener;
+            if (error == null) {
+                retryDelay = 0;
+                sent.set(content);
+                if (!closed && !desired.equals(sent))
+                    requestEdit();
+            } else if (!closed)
+                scheduleRetry();
+            notifyAll();
+        }
+        if (error != null && listener != null)
+            listener.accept(error);
+    }
+
+    /**
+     * Method to schedule the retry of an edit not sent, the time between the retries is doubled at each retry up to
+     * the {@link #MAX_RETRY_DELAY} <br>
+     * No-any params required
+     */
+    private void scheduleRetry() {
+        if (retryDelay == 0)
+            retryDelay = Math.max(minInterval, MIN_RETRY_DELAY);
+        else
+            retryDelay = Math.min(retryDelay * 2, MAX_RETRY_DELAY);
+        scheduled = true;
+        CompletableFuture.delayedExecutor(retryDelay, MILLISECONDS, manager.getAsyncExecutor()).execute(this::sendEdit);
+    }
+
+    /**
+     * Method to edit the message with a content
+     *
+     * @param content: the content to send
+     * @throws IOException when the message has not been edited
+     */
+    private void edit(Content content) throws IOException {
+        Params params = new Params();
+        params.addParam("chat_id", chatId);
+        params.addParam("message_id", messageId);
+        String replyMarkup = content.replyMarkup;
+        if (replyMarkup != null)
+            params.addParam("reply_markup", replyMarkup);
+        if (content.parseMode != null)
+            params.addParam("parse_mode", content.parseMode);
+        if (content.text != null && (!content.text.equals(sent.text) || !Objects.equals(content.parseMode,
+                sent.parseMode))) {
+            params.addParam("text", content.text);
+            manager.sendPostRequest(EDIT_MESSAGE_TEXT_ENDPOINT, params);
+        } else if (content.caption != null && (!content.caption.equals(sent.caption)
+                || !Objects.equals(content.parseMode, sent.parseMode))) {
+            params.addParam("caption", content.caption);
+            manager.sendPostRequest(EDIT_MESSAGE_CAPTION_ENDPOINT, params);
+        } else if (!Objects.equals(replyMarkup, sent.replyMarkup))
+            manager.sendPostRequest(EDIT_MESSAGE_REPLY_MARKUP_ENDPOINT, params);
+    }
+
+    /**
+     * Method to wait until the latest content requested has been sent <br>
+     * No-any params required
+     *
+     * @throws IOException when the latest content has not been sent, or the current thread is interrupted while
+     *                     waiting
+     * @apiNote when an edit is not sent this method does not wait for its retries, the error of the edit is thrown
+     */
+    public synchronized void flush() throws IOException {
+        long edits = completedEdits;
+        try {
+            while (scheduled && (lastError == null || completedEdits == edits))
+                wait();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the edit of the message");
+        }
+        if (lastError != null && !desired.equals(sent))
+            throw lastError;
+    }
+
+    /**
+     * Method to send the latest content requested and close the editor <br>
+     * No-any params required
+     *
+     * @throws IOException when the latest content has not been sent
+     * @apiNote after this method has been invoked {@link UpdatingMessagesManager#getMessageEditor(Object, long)}
+     * returns a new editor for the message
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            synchronized (this) {
+                closed = true;
+            }
+            manager.removeMessageEditor(chatId, messageId, this);
+        }
+    }
+
+    /**
+     * Method to set {@link #errorListener} instance
+     *
+     * @param errorListener: the listener of the edits not sent, {@code "null"} to ignore them
+     * @apiNote the content not sent is sent again after a delay doubled at each retry, from the minimum interval of
+     * the editor up to one minute, until it has been sent or the editor has been closed
+     */
+    public synchronized void setErrorListener(Consumer<IOException> errorListener) {
+        this.errorListener = errorListener;
+    }
+
+    /**
+     * Method to get {@link #chatId} instance <br>
+     * No-any params required
+     *
+     * @return {@link #chatId} instance as {@link Object}
+     */
+    public Object getChatId() {
+        return chatId;
+    }
+
+    /**
+     * Method to get {@link #messageId} instance <br>
+     * No-any params required
+     *
+     * @return {@link #messageId} instance as long
+     */
+    public long getMessageId() {
+        return messageId;
+    }
+
+    /**
+     * Method to get {@link #minInterval} instance <br>
+     * No-any params required
+     *
+     * @return {@link #minInterval} instance as long
+     */
+    public long getMinInterval() {
+        return minInterval;
+    }
+
+    /**
+     * Method to get whether the editor has been closed <br>
+     * No-any params required
+     *
+     * @return whether the editor has been closed as boolean
+     */
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * The {@code Content} class is useful to hold the content of the message
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    private static class Content {
+
+        /**
+         * {@code text} the text of the message, can be {@code "null"}
+         */
+        private String text;
+
+        /**
+         * {@code caption} the caption of the message, can be {@code "null"}
+         */
+        private String caption;
+
+        /**
+         * {@code parseMode} mode for parsing entities in the text or in the caption, can be {@code "null"}
+         */
+        private String parseMode;
+
+        /**
+         * {@code replyMarkup} the inline keyboard of the message as JSON, can be {@code "null"}
+         */
+        private String replyMarkup;
+
+        /**
+         * Method to create a copy of the content <br>
+         * No-any params required
+         *
+         * @return copy of the content as {@link Content}
+         */
+        private Content copy() {
+            Content content = new Content();
+            content.set(this);
+            return content;
+        }
+
+        /**
+         * Method to set the values of another content
+         *
+         * @param content: the content to copy
+         */
+        private void set(Content content) {
+            text = content.text;
+            caption = content.caption;
+            parseMode = content.parseMode;
+            replyMarkup = content.replyMarkup;
+        }
+
+        /**
+         * Indicates whether some other object is "equal to" this one
+         *
+         * @param object: the reference object with which to compare
+         * @return whether the contents are equal as boolean
+         */
+        @Override
+        public boolean equals(Object object) {
+            if (!(object instanceof Content content))
+                return false;
+            return Objects.equals(text, content.text) && Objects.equals(caption, content.caption)
+                    && Objects.equals(parseMode, content.parseMode)
+                    && Objects.equals(replyMarkup, content.replyMarkup);
+        }
+
+        /**
+         * Returns a hash code value for the object <br>
+         * No-any params required
+         *
+         * @return a hash code value for this object as int
+         */
+        @Override
+        public int hashCode() {
+            return Objects.hash(text, caption, parseMode, replyMarkup);
+        }
+
+    }
+
+}
@@ -14,6 +14,7 @@ import com.tecknobit.telegrammanager.botapi.records.basetypes.message.Message;
 import com.tecknobit.telegrammanager.botapi.records.basetypes.message.MessageEntity;
 
 import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.POST;
 import static com.tecknobit.telegrammanager.botapi.managers.TelegramManager.ReturnFormat.LIBRARY_OBJECT;
@@ -69,6 +70,16 @@ public class UpdatingMessagesManager extends TelegramIdentifierManager {
      */
     public static final String DELETE_MESSAGE_ENDPOINT = "deleteMessage";
 
+    /**
+     * {@code messageEditors} the editors of the messages in use, by chat and message
+     */
+    private final ConcurrentHashMap<String, MessageEditor> messageEditors = new ConcurrentHashMap<>();
+
+    /**
+     * {@code liveLocationStreamers} the streamers of the live locations not stopped yet, by chat and message
+     */
+    private final ConcurrentHashMap<String, LiveLocationStreamer> liveLocationStreamers = new ConcurrentHashMap<>();
+
     /**
      * Constructor to init {@link UpdatingMessagesManager}
      *
@@ -802,6 +813,104 @@ public class UpdatingMessagesManager extends TelegramIdentifierManager {
         return getMessageOrBooleanResponse(sendPostRequest(EDIT_MESSAGE_REPLY_MARKUP_ENDPOINT, parameters), format);
     }
 
+    /**
+     * Method to get the editor of a message, useful to edit a message many times per second
+     *
+     * @param chatId:    unique identifier for the target chat or username of the target channel
+     * @param messageId: identifier of the message to edit
+     * @return editor of the message as {@link MessageEditor}
+     * @apiNote the editor is shared until it is closed, when it is created it sends at most one edit every
+     * {@link MessageEditor#getDefaultMinInterval(Object)} millis, otherwise it keeps its own interval. The edits are
+     * sent by the {@link #getAsyncExecutor()}
+     */
+    public <L> MessageEditor getMessageEditor(L chatId, long messageId) {
+        return obtainMessageEditor(chatId, messageId, MessageEditor.getDefaultMinInterval(chatId), false);
+    }
+
+    /**
+     * Method to get the editor of a message, useful to edit a message many times per second
+     *
+     * @param chatId:      unique identifier for the target chat or username of the target channel
+     * @param messageId:   identifier of the message to edit
+     * @param minInterval: the time in millis between two edits of the message
+     * @return editor of the message as {@link MessageEditor}
+     * @throws IllegalArgumentException when the editor of the message is in use with a different interval
+     * @apiNote the editor is shared until it is closed, the edits are sent by the {@link #getAsyncExecutor()}
+     */
+    public <L> MessageEditor getMessageEditor(L chatId, long messageId, long minInterval) {
+        return obtainMessageEditor(chatId, messageId, minInterval, true);
+    }
+
+    /**
+     * Method to get the editor of a message in use or to create it, the closed editors are replaced
+     *
+     * @param chatId:        unique identifier for the target chat or username of the target channel
+     * @param messageId:     identifier of the message to edit
+     * @param minInterval:   the time in millis between two edits of the message
+     * @param checkInterval: whether the editor in use must have the same interval
+     * @return editor of the message as {@link MessageEditor}
+     * @throws IllegalArgumentException when the editor of the message is in use with a different interval
+     */
+    private MessageEditor obtainMessageEditor(Object chatId, long messageId, long minInterval, boolean checkInterval) {
+        MessageEditor editor = messageEditors.compute(chatId + ":" + messageId, (key, current) -> {
+            if (current != null && !current.isClosed())
+                return current;
+            return new MessageEditor(this, chatId, messageId, minInterval);
+        });
+        if (checkInterval && editor.getMinInterval() != minInterval) {
+            throw new IllegalArgumentException("The editor of the message is in use with a minimum interval of "
+                    + editor.getMinInterval() + " millis");
+        }
+        return editor;
+    }
+
+    /**
+     * Method to remove the editor of a message closed
+     *
+     * @param chatId:    unique identifier for the target chat or username of the target channel
+     * @param messageId: identifier of the message edited
+     * @param editor:    the editor closed
+     */
+    void removeMessageEditor(Object chatId, long messageId, MessageEditor editor) {
+        messageEditors.remove(chatId + ":" + messageId, editor);
+    }
+
+    /**
+     * Method to get the streamer of a live location, useful to update a live location with a stream of positions
+     *
+     * @param chatId:     unique identifier for the target chat or username of the target channel
+     * @param messageId:  identifier of the message with the live location
+     * @param livePeriod: the seconds remaining of the live period, {@link LiveLocationStreamer#INDEFINITE_LIVE_PERIOD}
+     *                    if it never expires
+     * @return streamer of the live location as {@link LiveLocationStreamer}
+     * @apiNote the streamer is shared until the live location is stopped and uses the default thresholds, when the
+     * streamer already exists its live period is replaced with {@code livePeriod}, see
+     * {@link LiveLocationStreamer#setLivePeriod(long)}
+     */
+    public <L> LiveLocationStreamer getLiveLocationStreamer(L chatId, long messageId, long livePeriod) {
+        boolean[] created = new boolean[1];
+        LiveLocationStreamer streamer = liveLocationStreamers.compute(chatId + ":" + messageId, (key, current) -> {
+            if (current != null && !current.isStopped())
+                return current;
+            created[0] = true;
+            return new LiveLocationStreamer(this, chatId, messageId, livePeriod);
+        });
+        if (!created[0])
+            streamer.setLivePeriod(livePeriod);
+        return streamer;
+    }
+
+    /**
+     * Method to remove the streamer of a live location stopped
+     *
+     * @param chatId:    unique identifier for the target chat or username of the target channel
+     * @param messageId: identifier of the message with the live location
+     * @param streamer:  the streamer stopped
+     */
+    void removeLiveLocationStreamer(Object chatId, long messageId, LiveLocationStreamer streamer) {
+        liveLocationStreamers.remove(chatId + ":" + messageId, streamer);
+    }
+
     /**
      * Request to stop a poll which was sent by the bot
      *
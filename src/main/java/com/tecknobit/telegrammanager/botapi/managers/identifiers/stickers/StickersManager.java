@@ -13,6 +13,7 @@ import com.tecknobit.telegrammanager.botapi.managers.identifiers.stickers.record
 import com.tecknobit.telegrammanager.botapi.managers.identifiers.stickers.records.Sticker.StickerFormat;
 import com.tecknobit.telegrammanager.botapi.managers.identifiers.stickers.records.Sticker.StickerType;
 import com.tecknobit.telegrammanager.botapi.managers.identifiers.stickers.records.StickerSet;
+import com.tecknobit.telegrammanager.botapi.managers.requests.InputFile;
 import com.tecknobit.telegrammanager.botapi.managers.profile.records.User;
 import com.tecknobit.telegrammanager.botapi.records.basetypes.ForceReply;
 import com.tecknobit.telegrammanager.botapi.records.basetypes.keyboard.ReplyKeyboardMarkup;
@@ -767,6 +768,40 @@ public class StickersManager extends TelegramIdentifierManager {
                 format);
     }
 
+    /**
+     * Method to upload a new file with a sticker for later use in the {@code "createNewStickerSet"} and
+     * {@code "addStickerToSet"} methods, the file is streamed with a {@code multipart/form-data} request
+     *
+     * @param userId:        user identifier of sticker file owner
+     * @param sticker:       a file with the sticker in .WEBP, .PNG, .TGS, or .WEBM format
+     * @param stickerFormat: format of the sticker
+     * @param format         :       return type formatter -> {@link ReturnFormat}
+     * @return file as {@code "format"} defines
+     * @throws IOException when request has been go wrong -> you can use these methods to get more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote see the official documentation at: <a href="https://core.telegram.org/bots/api#uploadstickerfile">
+     * uploadStickerFile</a>
+     */
+    @RequestPath(method = POST, path = "uploadStickerFile")
+    public <T> T uploadStickerFile(long userId, InputFile sticker, StickerFormat stickerFormat,
+                                   ReturnFormat format) throws IOException {
+        Params payload = new Params();
+        payload.addParam("user_id", userId);
+        payload.addParam("sticker_format", stickerFormat);
+        return returnFile(uploadMedia(UPLOAD_STICKER_FILE_ENDPOINT, null, "sticker", sticker, payload),
+                format);
+    }
+
     /**
      * Method to create a new sticker set owned by a user. The bot will be able to edit the sticker set thus created
      *
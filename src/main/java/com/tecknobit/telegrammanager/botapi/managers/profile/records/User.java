@@ -98,6 +98,7 @@ public class User extends ProfileStructure {
         canJoinGroups = hTelegram.getBoolean("can_join_groups");
         canReadAllGroupMessages = hTelegram.getBoolean("can_read_all_group_messages");
         supportsInlineQueries = hTelegram.getBoolean("supports_inline_queries");
+        releaseSourceIfRequired();
     }
 
     /**
@@ -0,0 +1,136 @@
+package com.tecknobit.telegrammanager.botapi.managers.requests;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.net.URLEncoder;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The {@code BodyEncoding} enum is useful to choose how the params of the requests which are not
+ * {@code multipart/form-data} requests are sent
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the {@code GET} requests always send their params in the query string
+ */
+public enum BodyEncoding {
+
+    /**
+     * {@code QUERY_STRING} the params are sent in the query string of the url of the request
+     */
+    QUERY_STRING(null),
+
+    /**
+     * {@code FORM} the params are sent in an {@code application/x-www-form-urlencoded} body
+     */
+    FORM("application/x-www-form-urlencoded"),
+
+    /**
+     * {@code JSON} the params are sent in an {@code application/json} body
+     *
+     * @apiNote the {@link JSONObject}, {@link JSONArray}, {@link Number} and {@link Boolean} values are written with
+     * their JSON type, the other values are written as strings like the JSON-serialized values of the query string
+     */
+    JSON("application/json");
+
+    /**
+     * {@code contentType} the content type of the body, {@code "null"} if the params are not sent in the body
+     */
+    private final String contentType;
+
+    /**
+     * Constructor to init {@link BodyEncoding}
+     *
+     * @param contentType: the content type of the body, {@code "null"} if the params are not sent in the body
+     */
+    BodyEncoding(String contentType) {
+        this.contentType = contentType;
+    }
+
+    /**
+     * Method to get {@link #contentType} instance <br>
+     * No-any params required
+     *
+     * @return {@link #contentType} instance as {@link String}
+     */
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Method to create the publisher of the body which contains the params
+     *
+     * @param params: the values of the params, the {@code "null"} values are skipped
+     * @return publisher as {@link BodyPublisher}
+     * @apiNote the {@link #QUERY_STRING} publisher contains the query string of the params, see {@link #encode(Map)}
+     */
+    public BodyPublisher toBodyPublisher(Map<String, Object> params) {
+        return BodyPublishers.ofByteArray(encode(params).getBytes(UTF_8));
+    }
+
+    /**
+     * Method to encode the params as body
+     *
+     * @param params: the values of the params, the {@code "null"} values are skipped
+     * @return body as {@link String}
+     * @apiNote the {@link #QUERY_STRING} params are encoded as the query string without the leading {@code "?"},
+     * which is the same content of a {@link #FORM} body
+     */
+    public String encode(Map<String, Object> params) {
+        return switch (this) {
+            case QUERY_STRING, FORM -> encodeForm(params);
+            case JSON -> encodeJSON(params);
+        };
+    }
+
+    /**
+     * Method to encode the params as {@code application/x-www-form-urlencoded} body or query string
+     *
+     * @param params: the values of the params, the {@code "null"} values are skipped
+     * @return body as {@link String}
+     */
+    private static String encodeForm(Map<String, Object> params) {
+        StringBuilder body = new StringBuilder();
+        for (Map.Entry<String, Object> param : params.entrySet()) {
+            Object value = param.getValue();
+            if (value == null)
+                continue;
+            if (!body.isEmpty())
+                body.append('&');
+            body.append(URLEncoder.encode(param.getKey(), UTF_8))
+                    .append('=')
+                    .append(URLEncoder.encode(value.toString(), UTF_8));
+        }
+        return body.toString();
+    }
+
+    /**
+     * Method to encode the params as {@code application/json} body
+     *
+     * @param params: the values of the params, the {@code "null"} values are skipped
+     * @return body as {@link String}
+     */
+    private static String encodeJSON(Map<String, Object> params) {
+        StringBuilder body = new StringBuilder("{");
+        for (Map.Entry<String, Object> param : params.entrySet()) {
+            Object value = param.getValue();
+            if (value == null)
+                continue;
+            if (body.length() > 1)
+                body.append(',');
+            body.append(JSONObject.quote(param.getKey())).append(':');
+            if (value instanceof JSONObject || value instanceof JSONArray || value instanceof Boolean)
+                body.append(value);
+            else if (value instanceof Number number)
+                body.append(JSONObject.numberToString(number));
+            else
+                body.append(JSONObject.quote(value.toString()));
+        }
+        return body.append('}').toString();
+    }
+
+}
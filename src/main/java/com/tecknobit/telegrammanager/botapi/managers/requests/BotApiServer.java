@@ -0,0 +1,161 @@
+package com.tecknobit.telegrammanager.botapi.managers.requests;
+
+import java.nio.file.Path;
+
+/**
+ * The {@code BotApiServer} class is useful to choose the server where the requests are sent, the official server of
+ * {@code Telegram} or a self-hosted <a href="https://github.com/tdlib/telegram-bot-api">Bot API server</a>
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote when the server runs in {@code "--local"} mode, the files can be uploaded passing their absolute path, the
+ * files returned by {@code getFile} are on the disk of the server and the larger size limits apply
+ */
+public class BotApiServer {
+
+    /**
+     * {@code TELEGRAM_SERVER_URL} the url of the official server of {@code Telegram}
+     */
+    public static final String TELEGRAM_SERVER_URL = "https://api.telegram.org";
+
+    /**
+     * {@code CLOUD_MAX_UPLOAD_SIZE} maximum size in bytes of the files uploaded to the official server
+     */
+    public static final long CLOUD_MAX_UPLOAD_SIZE = 50L * 1024 * 1024;
+
+    /**
+     * {@code CLOUD_MAX_DOWNLOAD_SIZE} maximum size in bytes of the files downloaded from the official server
+     */
+    public static final long CLOUD_MAX_DOWNLOAD_SIZE = 20L * 1024 * 1024;
+
+    /**
+     * {@code LOCAL_MAX_UPLOAD_SIZE} maximum size in bytes of the files uploaded to a server in local mode
+     */
+    public static final long LOCAL_MAX_UPLOAD_SIZE = 2000L * 1024 * 1024;
+
+    /**
+     * {@code TELEGRAM} the official server of {@code Telegram}
+     */
+    public static final BotApiServer TELEGRAM = new BotApiServer(TELEGRAM_SERVER_URL, false);
+
+    /**
+     * {@code baseUrl} the url of the server, without the trailing slash
+     */
+    private final String baseUrl;
+
+    /**
+     * {@code local} whether the server runs in local mode
+     */
+    private final boolean local;
+
+    /**
+     * Constructor to init {@link BotApiServer}
+     *
+     * @param baseUrl: the url of the server, for example {@code "http://localhost:8081"}
+     * @param local:   whether the server runs in local mode, with the {@code "--local"} option
+     */
+    public BotApiServer(String baseUrl, boolean local) {
+        if (baseUrl == null || baseUrl.isBlank())
+            throw new IllegalArgumentException("The url of the server cannot be empty");
+        while (baseUrl.endsWith("/"))
+            baseUrl = baseUrl.substring(0, baseUrl.length() - 1);
+        this.baseUrl = baseUrl;
+        this.local = local;
+    }
+
+    /**
+     * Method to create a server which runs in local mode
+     *
+     * @param baseUrl: the url of the server, for example {@code "http://localhost:8081"}
+     * @return server as {@link BotApiServer}
+     */
+    public static BotApiServer local(String baseUrl) {
+        return new BotApiServer(baseUrl, true);
+    }
+
+    /**
+     * Method to get the endpoint of the methods of a bot
+     *
+     * @param token: the bot unique authentication token
+     * @return endpoint, with the trailing slash, as {@link String}
+     */
+    public String getBotEndpoint(String token) {
+        return baseUrl + "/bot" + token + "/";
+    }
+
+    /**
+     * Method to get the endpoint of the files of a bot
+     *
+     * @param token: the bot unique authentication token
+     * @return endpoint, with the trailing slash, as {@link String}
+     */
+    public String getFileEndpoint(String token) {
+        return baseUrl + "/file/bot" + token + "/";
+    }
+
+    /**
+     * Method to get the value to send for a file to upload
+     *
+     * @param file: the file to upload
+     * @return the {@code "file://"} uri of the file if the server runs in local mode and the file is on the disk, the
+     * file to upload itself otherwise, as {@link Object}
+     * @apiNote the file must be readable by the server at the same path
+     */
+    public Object toUploadValue(InputFile file) {
+        Path path = file.getPath();
+        if (!local || path == null)
+            return file;
+        return path.toAbsolutePath().toUri().toString();
+    }
+
+    /**
+     * Method to get {@link #baseUrl} instance <br>
+     * No-any params required
+     *
+     * @return {@link #baseUrl} instance as {@link String}
+     */
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Method to get {@link #local} instance <br>
+     * No-any params required
+     *
+     * @return {@link #local} instance as boolean
+     */
+    public boolean isLocal() {
+        return local;
+    }
+
+    /**
+     * Method to get the maximum size of the files uploaded <br>
+     * No-any params required
+     *
+     * @return maximum size in bytes as long
+     */
+    public long getMaxUploadSize() {
+        return local ? LOCAL_MAX_UPLOAD_SIZE : CLOUD_MAX_UPLOAD_SIZE;
+    }
+
+    /**
+     * Method to get the maximum size of the files downloaded <br>
+     * No-any params required
+     *
+     * @return maximum size in bytes as long, {@code "-1"} if the size is not limited
+     */
+    public long getMaxDownloadSize() {
+        return local ? -1 : CLOUD_MAX_DOWNLOAD_SIZE;
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * No-any params required
+     *
+     * @return a string representation of the object as {@link String}
+     */
+    @Override
+    public String toString() {
+        return baseUrl + (local ? " (local)" : "");
+    }
+
+}
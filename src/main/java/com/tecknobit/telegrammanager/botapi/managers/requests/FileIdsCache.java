@@ -0,0 +1,331 @@
+package com.tecknobit.telegrammanager.botapi.managers.requests;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * The {@code FileIdsCache} class is useful to reuse the {@code file_id} of the media already sent, so the same content
+ * is uploaded only once. The media are identified by:
+ * <ul>
+ *     <li>
+ *         the {@code SHA-256} hash of their content, when they are uploaded as {@link InputFile}
+ *     </li>
+ *     <li>
+ *         their {@code URL}, when they are sent from the Internet
+ *     </li>
+ * </ul>
+ * The cache keeps in memory the most recently used identifiers and can be backed by a persistent {@link FileIdsStore}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the {@link InputFile} created from an {@link java.io.InputStream} are not cached because their content
+ * can be read only once
+ */
+public class FileIdsCache {
+
+    /**
+     * {@code DEFAULT_CAPACITY} default number of identifiers kept in memory
+     */
+    public static final int DEFAULT_CAPACITY = 1000;
+
+    /**
+     * {@code MEDIA_KEYS} the keys of a message which can contain a media
+     */
+    private static final String[] MEDIA_KEYS = {"document", "video", "animation", "audio", "voice", "video_note",
+            "sticker"};
+
+    /**
+     * {@code HASH_CHUNK_SIZE} size in bytes of the chunks read to hash the files
+     */
+    private static final int HASH_CHUNK_SIZE = 64 * 1024;
+
+    /**
+     * {@code fileIds} the identifiers kept in memory from the least to the most recently used
+     */
+    private final LinkedHashMap<String, String> fileIds;
+
+    /**
+     * {@code filesDigests} the hashes of the files on the disk already computed
+     */
+    private final LinkedHashMap<Path, FileDigest> filesDigests;
+
+    /**
+     * {@code store} the persistent store of the identifiers, can be {@code "null"}
+     */
+    private final FileIdsStore store;
+
+    /**
+     * Constructor to init {@link FileIdsCache} with the {@link #DEFAULT_CAPACITY} and without a persistent store <br>
+     * No-any params required
+     */
+    public FileIdsCache() {
+        this(DEFAULT_CAPACITY, null);
+    }
+
+    /**
+     * Constructor to init {@link FileIdsCache}
+     *
+     * @param capacity: number of identifiers kept in memory
+     * @param store:    the persistent store of the identifiers, can be {@code "null"}
+     */
+    public FileIdsCache(int capacity, FileIdsStore store) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("The capacity must be a positive value");
+        fileIds = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > capacity;
+            }
+        };
+        filesDigests = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Path, FileDigest> eldest) {
+                return size() > capacity;
+            }
+        };
+        this.store = store;
+    }
+
+    /**
+     * Method to get the key which identifies a media
+     *
+     * @param mediaType: type of the media
+     * @param media:     the media, as {@link InputFile} or as {@code URL}
+     * @return key as {@link String}, {@code "null"} if the media cannot be cached
+     * @throws IOException when the content of the media cannot be read
+     */
+    public String getKey(String mediaType, Object media) throws IOException {
+        if (media instanceof InputFile file) {
+            String hash;
+            if (file.getPath() != null)
+                hash = getHash(file.getPath());
+            else if (file.getBuffer() != null) {
+                MessageDigest digest = createDigest();
+                digest.update(file.getBuffer());
+                hash = HexFormat.of().formatHex(digest.digest());
+            } else
+                return null;
+            return mediaType + ":sha256:" + hash;
+        } else if (media instanceof String url && (url.startsWith("http://") || url.startsWith("https://")))
+            return mediaType + ":url:" + url;
+        return null;
+    }
+
+    /**
+     * Method to get the identifier of a media already sent
+     *
+     * @param key: the key which identifies the media
+     * @return the identifier as {@link String}, {@code "null"} if the media has not been sent yet
+     * @throws IOException when the persistent store cannot be read
+     */
+    public String getFileId(String key) throws IOException {
+        synchronized (fileIds) {
+            String fileId = fileIds.get(key);
+            if (fileId != null || store == null)
+                return fileId;
+        }
+        String fileId = store.load(key);
+        if (fileId != null) {
+            synchronized (fileIds) {
+                fileIds.put(key, fileId);
+            }
+        }
+        return fileId;
+    }
+
+    /**
+     * Method to store the identifier of a media sent
+     *
+     * @param key:    the key which identifies the media
+     * @param fileId: the identifier of the media
+     * @throws IOException when the persistent store cannot be written
+     */
+    public void putFileId(String key, String fileId) throws IOException {
+        synchronized (fileIds) {
+            fileIds.put(key, fileId);
+        }
+        if (store != null)
+            store.store(key, fileId);
+    }
+
+    /**
+     * Method to remove the identifier of a media, for example when it is no more valid
+     *
+     * @param key: the key which identifies the media
+     * @throws IOException when the persistent store cannot be written
+     */
+    public void removeFileId(String key) throws IOException {
+        synchronized (fileIds) {
+            fileIds.remove(key);
+        }
+        if (store != null)
+            store.remove(key);
+    }
+
+    /**
+     * Method to remove all the identifiers kept in memory <br>
+     * No-any params required
+     *
+     * @apiNote the persistent store is not cleared
+     */
+    public void clear() {
+        synchronized (fileIds) {
+            fileIds.clear();
+        }
+        synchronized (filesDigests) {
+            filesDigests.clear();
+        }
+    }
+
+    /**
+     * Method to fetch the identifier of the media of a message
+     *
+     * @param jMessage: the message as {@link JSONObject}, also wrapped in the response of {@code Telegram}
+     * @return the identifier as {@link String}, {@code "null"} if the message has no media
+     * @apiNote for the photos will be used the identifier of the largest size
+     */
+    public static String fetchFileId(JSONObject jMessage) {
+        JSONObject jResult = jMessage.optJSONObject("result");
+        if (jResult != null)
+            jMessage = jResult;
+        JSONArray jPhoto = jMessage.optJSONArray("photo");
+        if (jPhoto != null && !jPhoto.isEmpty())
+            return jPhoto.getJSONObject(jPhoto.length() - 1).optString("file_id", null);
+        for (String mediaKey : MEDIA_KEYS) {
+            JSONObject jMedia = jMessage.optJSONObject(mediaKey);
+            if (jMedia != null)
+                return jMedia.optString("file_id", null);
+        }
+        return null;
+    }
+
+    /**
+     * Method to get the hash of a file on the disk, the hash is computed again only when the file has been modified
+     *
+     * @param path: the path of the file
+     * @return hash as {@link String}
+     * @throws IOException when the file cannot be read
+     */
+    private String getHash(Path path) throws IOException {
+        long size = Files.size(path);
+        long lastModified = Files.getLastModifiedTime(path).toMillis();
+        synchronized (filesDigests) {
+            FileDigest fileDigest = filesDigests.get(path);
+            if (fileDigest != null && fileDigest.size == size && fileDigest.lastModified == lastModified)
+                return fileDigest.hash;
+        }
+        MessageDigest digest = createDigest();
+        ByteBuffer buffer = ByteBuffer.allocate(HASH_CHUNK_SIZE);
+        try (FileChannel channel = FileChannel.open(path, READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        String hash = HexFormat.of().formatHex(digest.digest());
+        synchronized (filesDigests) {
+            filesDigests.put(path, new FileDigest(size, lastModified, hash));
+        }
+        return hash;
+    }
+
+    /**
+     * Method to create the digest used to hash the content of the media <br>
+     * No-any params required
+     *
+     * @return digest as {@link MessageDigest}
+     */
+    private MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The {@code FileIdsStore} interface is useful to persist the identifiers of the media sent
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    public interface FileIdsStore {
+
+        /**
+         * Method to load an identifier
+         *
+         * @param key: the key which identifies the media
+         * @return the identifier as {@link String}, {@code "null"} if it has not been stored
+         * @throws IOException when the store cannot be read
+         */
+        String load(String key) throws IOException;
+
+        /**
+         * Method to store an identifier
+         *
+         * @param key:    the key which identifies the media
+         * @param fileId: the identifier of the media
+         * @throws IOException when the store cannot be written
+         */
+        void store(String key, String fileId) throws IOException;
+
+        /**
+         * Method to remove an identifier
+         *
+         * @param key: the key which identifies the media
+         * @throws IOException when the store cannot be written
+         */
+        void remove(String key) throws IOException;
+
+    }
+
+    /**
+     * The {@code FileDigest} class is useful to hold the hash of a file on the disk
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    private static class FileDigest {
+
+        /**
+         * {@code size} the size of the file when it has been hashed
+         */
+        private final long size;
+
+        /**
+         * {@code lastModified} the last modification time of the file when it has been hashed
+         */
+        private final long lastModified;
+
+        /**
+         * {@code hash} the hash of the file
+         */
+        private final String hash;
+
+        /**
+         * Constructor to init {@link FileDigest}
+         *
+         * @param size:         the size of the file when it has been hashed
+         * @param lastModified: the last modification time of the file when it has been hashed
+         * @param hash:         the hash of the file
+         */
+        private FileDigest(long size, long lastModified, String hash) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.hash = hash;
+        }
+
+    }
+
+}
@@ -0,0 +1,315 @@
+package com.tecknobit.telegrammanager.botapi.managers.requests;
+
+import java.io.InterruptedIOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.concurrent.TimeUnit.*;
+
+/**
+ * The {@code FloodController} class is useful to throttle the requests sent to {@code Telegram} to respect its flood
+ * limits, the limits are applied with token buckets:
+ * <ul>
+ *     <li>
+ *         a global bucket for all the messages sent by the bot
+ *     </li>
+ *     <li>
+ *         a bucket for each private chat
+ *     </li>
+ *     <li>
+ *         a bucket for each group, supergroup or channel
+ *     </li>
+ * </ul>
+ * When {@code Telegram} answers with a {@code "retry_after"} value the requests are paused for the time requested
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote see the official documentation at: <a href="https://core.telegram.org/bots/faq#my-bot-is-hitting-limits-how-do-i-avoid-this">
+ * My bot is hitting limits, how do I avoid this?</a>
+ */
+public class FloodController {
+
+    /**
+     * {@code DEFAULT_GLOBAL_LIMIT} default number of messages per second that the bot can send
+     */
+    public static final int DEFAULT_GLOBAL_LIMIT = 30;
+
+    /**
+     * {@code DEFAULT_PRIVATE_CHAT_LIMIT} default number of messages per second that the bot can send in a private chat
+     */
+    public static final int DEFAULT_PRIVATE_CHAT_LIMIT = 1;
+
+    /**
+     * {@code DEFAULT_GROUP_CHAT_LIMIT} default number of messages per minute that the bot can send in a group
+     */
+    public static final int DEFAULT_GROUP_CHAT_LIMIT = 20;
+
+    /**
+     * {@code MAX_CHATS_BUCKETS} number of chats buckets after which the idle ones are removed
+     */
+    private static final int MAX_CHATS_BUCKETS = 10000;
+
+    /**
+     * {@code SWEEP_INTERVAL} minimum interval in nanos between two removals of the idle chats buckets
+     */
+    private static final long SWEEP_INTERVAL = MINUTES.toNanos(1);
+
+    /**
+     * {@code THROTTLED_METHODS} prefixes of the methods which are subject to the flood limits
+     */
+    private static final String[] THROTTLED_METHODS = {"send", "forward", "copy", "edit"};
+
+    /**
+     * {@code controllers} the controllers shared by the managers which use the same token
+     */
+    private static final ConcurrentHashMap<String, FloodController> controllers = new ConcurrentHashMap<>();
+
+    /**
+     * {@code globalBucket} the bucket for all the messages sent by the bot
+     */
+    private final TokenBucket globalBucket;
+
+    /**
+     * {@code privateChatLimit} number of messages per second that the bot can send in a private chat
+     */
+    private final int privateChatLimit;
+
+    /**
+     * {@code groupChatLimit} number of messages per minute that the bot can send in a group
+     */
+    private final int groupChatLimit;
+
+    /**
+     * {@code chatsBuckets} the bucket of each chat
+     */
+    private final ConcurrentHashMap<String, TokenBucket> chatsBuckets;
+
+    /**
+     * {@code nextSweep} the time in nanos after which the idle chats buckets can be removed again
+     */
+    private final AtomicLong nextSweep;
+
+    /**
+     * Constructor to init {@link FloodController} with the default limits <br>
+     * No-any params required
+     */
+    public FloodController() {
+        this(DEFAULT_GLOBAL_LIMIT, DEFAULT_PRIVATE_CHAT_LIMIT, DEFAULT_GROUP_CHAT_LIMIT);
+    }
+
+    /**
+     * Constructor to init {@link FloodController}
+     *
+     * @param globalLimit:      number of messages per second that the bot can send
+     * @param privateChatLimit: number of messages per second that the bot can send in a private chat
+     * @param groupChatLimit:   number of messages per minute that the bot can send in a group
+     */
+    public FloodController(int globalLimit, int privateChatLimit, int groupChatLimit) {
+        if (globalLimit <= 0 || privateChatLimit <= 0 || groupChatLimit <= 0)
+            throw new IllegalArgumentException("The limits must be positive values");
+        globalBucket = new TokenBucket(globalLimit, SECONDS.toNanos(1));
+        this.privateChatLimit = privateChatLimit;
+        this.groupChatLimit = groupChatLimit;
+        chatsBuckets = new ConcurrentHashMap<>();
+        nextSweep = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Method to get the controller shared by all the managers which use the same token
+     *
+     * @param token: the bot unique authentication token
+     * @return controller as {@link FloodController}
+     */
+    public static FloodController getInstance(String token) {
+        return controllers.computeIfAbsent(token, key -> new FloodController());
+    }
+
+    /**
+     * Method to wait until a request can be sent without exceeding the flood limits
+     *
+     * @param methodName: the method of the request
+     * @param chatId:     unique identifier for the target chat or username of the target channel, can be {@code "null"}
+     * @throws InterruptedIOException when the current thread is interrupted while waiting
+     * @apiNote only the methods which send or edit the messages consume the limits, the other ones wait only when the
+     * requests have been paused by a {@code "retry_after"} value
+     */
+    public void acquire(String methodName, Object chatId) throws InterruptedIOException {
+        TokenBucket chatBucket = getChatBucket(chatId);
+        long now = System.nanoTime();
+        boolean throttled = isThrottled(methodName);
+        long waitTime = globalBucket.reserve(now, throttled);
+        if (chatBucket != null)
+            waitTime = Math.max(waitTime, chatBucket.reserve(now, throttled));
+        if (waitTime > 0) {
+            try {
+                NANOSECONDS.sleep(waitTime);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the flood limits");
+            }
+        }
+    }
+
+    /**
+     * Method to pause the requests after that {@code Telegram} has answered with a {@code "retry_after"} value
+     *
+     * @param chatId:     unique identifier for the target chat of the request, if {@code "null"} all the requests
+     *                    will be paused
+     * @param retryAfter: the number of seconds left to wait before the request can be repeated
+     */
+    public void pause(Object chatId, long retryAfter) {
+        long blockedUntil = System.nanoTime() + SECONDS.toNanos(retryAfter);
+        TokenBucket chatBucket = getChatBucket(chatId);
+        if (chatBucket != null)
+            chatBucket.block(blockedUntil);
+        else
+            globalBucket.block(blockedUntil);
+    }
+
+    /**
+     * Method to get whether a method is subject to the flood limits
+     *
+     * @param methodName: the method to check
+     * @return whether the method is subject to the flood limits as boolean
+     */
+    private boolean isThrottled(String methodName) {
+        for (String prefix : THROTTLED_METHODS)
+            if (methodName.startsWith(prefix))
+                return true;
+        return false;
+    }
+
+    /**
+     * Method to get the bucket of a chat
+     *
+     * @param chatId: unique identifier for the target chat or username of the target channel
+     * @return bucket as {@link TokenBucket}, {@code "null"} if the chat identifier is {@code "null"}
+     */
+    private TokenBucket getChatBucket(Object chatId) {
+        if (chatId == null)
+            return null;
+        String chat = chatId.toString();
+        if (chatsBuckets.size() > MAX_CHATS_BUCKETS)
+            removeIdleBuckets();
+        return chatsBuckets.computeIfAbsent(chat, key -> {
+            if (key.startsWith("-") || key.startsWith("@"))
+                return new TokenBucket(groupChatLimit, MINUTES.toNanos(1));
+            return new TokenBucket(privateChatLimit, SECONDS.toNanos(1));
+        });
+    }
+
+    /**
+     * Method to remove the buckets of the chats which are not used <br>
+     * No-any params required
+     *
+     * @apiNote the buckets are scanned at most once every {@link #SWEEP_INTERVAL} and by one thread at a time, so the
+     * acquisitions do not scan all the buckets when most of them are still in use
+     */
+    private void removeIdleBuckets() {
+        long now = System.nanoTime();
+        long sweep = nextSweep.get();
+        if (now - sweep < 0 || !nextSweep.compareAndSet(sweep, now + SWEEP_INTERVAL))
+            return;
+        chatsBuckets.values().removeIf(bucket -> bucket.isIdle(now));
+    }
+
+    /**
+     * The {@code TokenBucket} class is useful to limit the rate of the requests
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    private static class TokenBucket {
+
+        /**
+         * {@code capacity} the maximum number of tokens of the bucket
+         */
+        private final double capacity;
+
+        /**
+         * {@code tokensPerNano} the tokens added to the bucket for each nanosecond
+         */
+        private final double tokensPerNano;
+
+        /**
+         * {@code tokens} the tokens currently available, a negative value means tokens already reserved
+         */
+        private double tokens;
+
+        /**
+         * {@code lastRefill} the last time in nanos when the bucket has been refilled
+         */
+        private long lastRefill;
+
+        /**
+         * {@code blockedUntil} the time in nanos until the requests are paused
+         */
+        private long blockedUntil;
+
+        /**
+         * Constructor to init {@link TokenBucket}
+         *
+         * @param capacity: the maximum number of tokens of the bucket
+         * @param period:   the period in nanos in which the bucket is completely refilled
+         */
+        private TokenBucket(int capacity, long period) {
+            this.capacity = capacity;
+            tokensPerNano = (double) capacity / period;
+            tokens = capacity;
+            lastRefill = System.nanoTime();
+            blockedUntil = lastRefill;
+        }
+
+        /**
+         * Method to reserve a token
+         *
+         * @param now:     the current time in nanos
+         * @param consume: whether the request consumes a token
+         * @return the time in nanos to wait before the token is available
+         */
+        private synchronized long reserve(long now, boolean consume) {
+            refill(now);
+            long waitTime = Math.max(0, blockedUntil - now);
+            if (consume) {
+                tokens--;
+                if (tokens < 0)
+                    waitTime = Math.max(waitTime, (long) Math.ceil(-tokens / tokensPerNano));
+            }
+            return waitTime;
+        }
+
+        /**
+         * Method to pause the requests of the bucket
+         *
+         * @param blockedUntil: the time in nanos until the requests are paused
+         */
+        private synchronized void block(long blockedUntil) {
+            if (blockedUntil - this.blockedUntil > 0)
+                this.blockedUntil = blockedUntil;
+        }
+
+        /**
+         * Method to get whether the bucket is not used
+         *
+         * @param now: the current time in nanos
+         * @return whether the bucket is full and not paused as boolean
+         */
+        private synchronized boolean isIdle(long now) {
+            refill(now);
+            return tokens >= capacity && blockedUntil - now <= 0;
+        }
+
+        /**
+         * Method to refill the bucket
+         *
+         * @param now: the current time in nanos
+         */
+        private void refill(long now) {
+            long elapsed = now - lastRefill;
+            if (elapsed > 0) {
+                tokens = Math.min(capacity, tokens + elapsed * tokensPerNano);
+                lastRefill = now;
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,141 @@
+package com.tecknobit.telegrammanager.botapi.managers.requests;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.net.http.HttpClient.Version.HTTP_2;
+
+/**
+ * The {@code HttpTransport} class is useful to send the requests to {@code Telegram} with a single
+ * {@link HttpClient}, so the connections are kept alive and reused between the requests and, when the server supports
+ * it, the concurrent requests are multiplexed on the same {@code HTTP/2} connection
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote this class can be extended to customize how the requests are sent, for example to route them through a
+ * proxy or to record them
+ */
+public class HttpTransport {
+
+    /**
+     * {@code DEFAULT_CONNECT_TIMEOUT} default timeout to establish a new connection
+     */
+    public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+
+    /**
+     * {@code transports} the transports shared by the managers which use the same token
+     */
+    private static final ConcurrentHashMap<String, HttpTransport> transports = new ConcurrentHashMap<>();
+
+    /**
+     * {@code client} the client used to send the requests
+     */
+    private final HttpClient client;
+
+    /**
+     * {@code readTimeout} the maximum time to wait for the response of a request, can be {@code "null"}
+     */
+    private final Duration readTimeout;
+
+    /**
+     * Constructor to init {@link HttpTransport} with the {@link #DEFAULT_CONNECT_TIMEOUT} and without a
+     * {@link #readTimeout} <br>
+     * No-any params required
+     */
+    public HttpTransport() {
+        this(DEFAULT_CONNECT_TIMEOUT, null);
+    }
+
+    /**
+     * Constructor to init {@link HttpTransport}
+     *
+     * @param connectTimeout: the timeout to establish a new connection
+     * @param readTimeout:    the maximum time to wait for the response of a request, can be {@code "null"}
+     */
+    public HttpTransport(Duration connectTimeout, Duration readTimeout) {
+        this(HttpClient.newBuilder()
+                .version(HTTP_2)
+                .connectTimeout(connectTimeout)
+                .build(), readTimeout);
+    }
+
+    /**
+     * Constructor to init {@link HttpTransport}
+     *
+     * @param client:      the client to use to send the requests
+     * @param readTimeout: the maximum time to wait for the response of a request, can be {@code "null"}
+     */
+    public HttpTransport(HttpClient client, Duration readTimeout) {
+        if (client == null)
+            throw new IllegalArgumentException("The client cannot be null");
+        this.client = client;
+        this.readTimeout = readTimeout;
+    }
+
+    /**
+     * Method to get the transport shared by all the managers which use the same token
+     *
+     * @param token: the bot unique authentication token
+     * @return transport as {@link HttpTransport}
+     */
+    public static HttpTransport getInstance(String token) {
+        return transports.computeIfAbsent(token, key -> new HttpTransport());
+    }
+
+    /**
+     * Method to create the builder of a request
+     *
+     * @param uri: the uri of the request
+     * @return builder of the request with the {@link #readTimeout} already set as {@link HttpRequest.Builder}
+     */
+    public HttpRequest.Builder newRequest(URI uri) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri);
+        if (readTimeout != null)
+            request.timeout(readTimeout);
+        return request;
+    }
+
+    /**
+     * Method to send a request
+     *
+     * @param request: the request to send
+     * @param handler: the handler of the body of the response
+     * @return response as {@link HttpResponse}
+     * @throws IOException when the request cannot be sent or its response cannot be received
+     */
+    public <T> HttpResponse<T> send(HttpRequest request, BodyHandler<T> handler) throws IOException {
+        try {
+            return client.send(request, handler);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the response");
+        }
+    }
+
+    /**
+     * Method to get {@link #client} instance <br>
+     * No-any params required
+     *
+     * @return {@link #client} instance as {@link HttpClient}
+     */
+    public HttpClient getClient() {
+        return client;
+    }
+
+    /**
+     * Method to get {@link #readTimeout} instance <br>
+     * No-any params required
+     *
+     * @return {@link #readTimeout} instance as {@link Duration}
+     */
+    public Duration getReadTimeout() {
+        return readTimeout;
+    }
+
+}
@@ -0,0 +1,245 @@
+package com.tecknobit.telegrammanager.botapi.managers.requests;
+
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.function.Supplier;
+
+/**
+ * The {@code InputFile} class is useful to upload a new file with a {@code multipart/form-data} request, the content
+ * of the file is streamed in chunks and is never loaded entirely in memory
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote see the official documentation at: <a href="https://core.telegram.org/bots/api#inputfile">
+ * InputFile</a>
+ */
+public class InputFile {
+
+    /**
+     * {@code DEFAULT_CONTENT_TYPE} default content type of the files uploaded
+     */
+    public static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+    /**
+     * {@code fileName} the name of the file sent to {@code Telegram}
+     */
+    private final String fileName;
+
+    /**
+     * {@code contentType} the content type of the file
+     */
+    private final String contentType;
+
+    /**
+     * {@code path} the path of the file on the disk, can be {@code "null"}
+     */
+    private final Path path;
+
+    /**
+     * {@code stream} the supplier of the stream of the file content, can be {@code "null"}
+     */
+    private final Supplier<InputStream> stream;
+
+    /**
+     * {@code buffer} the buffer with the file content, can be {@code "null"}
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Constructor to init {@link InputFile}
+     *
+     * @param path: the path of the file on the disk
+     */
+    public InputFile(Path path) {
+        this(path, path.getFileName().toString(), DEFAULT_CONTENT_TYPE);
+    }
+
+    /**
+     * Constructor to init {@link InputFile}
+     *
+     * @param path:        the path of the file on the disk
+     * @param fileName:    the name of the file sent to {@code Telegram}
+     * @param contentType: the content type of the file
+     */
+    public InputFile(Path path, String fileName, String contentType) {
+        this(fileName, contentType, path, null, null);
+    }
+
+    /**
+     * Constructor to init {@link InputFile}
+     *
+     * @param stream:   the stream of the file content
+     * @param fileName: the name of the file sent to {@code Telegram}
+     * @apiNote the stream is read only once, so the request cannot be repeated
+     */
+    public InputFile(InputStream stream, String fileName) {
+        this(stream, fileName, DEFAULT_CONTENT_TYPE);
+    }
+
+    /**
+     * Constructor to init {@link InputFile}
+     *
+     * @param stream:      the stream of the file content
+     * @param fileName:    the name of the file sent to {@code Telegram}
+     * @param contentType: the content type of the file
+     * @apiNote the stream is read only once, so the request cannot be repeated
+     */
+    public InputFile(InputStream stream, String fileName, String contentType) {
+        this(fileName, contentType, null, () -> stream, null);
+    }
+
+    /**
+     * Constructor to init {@link InputFile}
+     *
+     * @param buffer:   the buffer with the file content, from its position to its limit
+     * @param fileName: the name of the file sent to {@code Telegram}
+     */
+    public InputFile(ByteBuffer buffer, String fileName) {
+        this(buffer, fileName, DEFAULT_CONTENT_TYPE);
+    }
+
+    /**
+     * Constructor to init {@link InputFile}
+     *
+     * @param buffer:      the buffer with the file content, from its position to its limit
+     * @param fileName:    the name of the file sent to {@code Telegram}
+     * @param contentType: the content type of the file
+     */
+    public InputFile(ByteBuffer buffer, String fileName, String contentType) {
+        this(fileName, contentType, null, null, buffer.asReadOnlyBuffer());
+    }
+
+    /**
+     * Constructor to init {@link InputFile}
+     *
+     * @param fileName:    the name of the file sent to {@code Telegram}
+     * @param contentType: the content type of the file
+     * @param path:        the path of the file on the disk
+     * @param stream:      the supplier of the stream of the file content
+     * @param buffer:      the buffer with the file content
+     */
+    private InputFile(String fileName, String contentType, Path path, Supplier<InputStream> stream,
+                      ByteBuffer buffer) {
+        this.fileName = fileName;
+        this.contentType = contentType;
+        this.path = path;
+        this.stream = stream;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Method to get {@link #fileName} instance <br>
+     * No-any params required
+     *
+     * @return {@link #fileName} instance as {@link String}
+     */
+    public String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * Method to get {@link #contentType} instance <br>
+     * No-any params required
+     *
+     * @return {@link #contentType} instance as {@link String}
+     */
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Method to get {@link #path} instance <br>
+     * No-any params required
+     *
+     * @return {@link #path} instance as {@link Path}, {@code "null"} if the file is not on the disk
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Method to get the buffer with the file content <br>
+     * No-any params required
+     *
+     * @return a view of the buffer as {@link ByteBuffer}, {@code "null"} if the file content is not in a buffer
+     */
+    ByteBuffer getBuffer() {
+        if (buffer == null)
+            return null;
+        return buffer.duplicate();
+    }
+
+    /**
+     * Method to get whether the file content can be read more times, so the request can be repeated <br>
+     * No-any params required
+     *
+     * @return whether the file content can be read more times as boolean
+     */
+    public boolean isRepeatable() {
+        return stream == null;
+    }
+
+    /**
+     * Method to create the publisher of the file content <br>
+     * No-any params required
+     *
+     * @return publisher as {@link BodyPublisher}
+     * @throws FileNotFoundException when the file on the disk does not exist
+     */
+    public BodyPublisher toBodyPublisher() throws FileNotFoundException {
+        if (path != null)
+            return BodyPublishers.ofFile(path);
+        if (stream != null)
+            return BodyPublishers.ofInputStream(stream);
+        return BodyPublishers.ofInputStream(() -> new ByteBufferInputStream(buffer.duplicate()));
+    }
+
+    /**
+     * The {@code ByteBufferInputStream} class is useful to read a {@link ByteBuffer} as {@link InputStream}
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    private static class ByteBufferInputStream extends InputStream {
+
+        /**
+         * {@code buffer} the buffer to read
+         */
+        private final ByteBuffer buffer;
+
+        /**
+         * Constructor to init {@link ByteBufferInputStream}
+         *
+         * @param buffer: the buffer to read
+         */
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int read() {
+            if (!buffer.hasRemaining())
+                return -1;
+            return buffer.get() & 0xFF;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!buffer.hasRemaining())
+                return -1;
+            length = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, length);
+            return length;
+        }
+
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.tecknobit.telegrammanager.botapi.managers.requests;
+
+import java.io.FileNotFoundException;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.util.ArrayList;
+import java.util.UUID;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The {@code MultipartBody} class is useful to assemble the body of a {@code multipart/form-data} request, the files
+ * added are streamed when the request is sent
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see InputFile
+ */
+public class MultipartBody {
+
+    /**
+     * {@code LINE_BREAK} the line break used by the {@code multipart/form-data} format
+     */
+    private static final String LINE_BREAK = "\r\n";
+
+    /**
+     * {@code boundary} the boundary which separates the parts of the body
+     */
+    private final String boundary;
+
+    /**
+     * {@code parts} the publishers of the parts of the body
+     */
+    private final ArrayList<BodyPublisher> parts;
+
+    /**
+     * Constructor to init {@link MultipartBody} <br>
+     * No-any params required
+     */
+    public MultipartBody() {
+        boundary = "TelegramManager" + UUID.randomUUID().toString().replace("-", "");
+        parts = new ArrayList<>();
+    }
+
+    /**
+     * Method to add a text field
+     *
+     * @param name:  the name of the field
+     * @param value: the value of the field
+     */
+    public void addField(String name, Object value) {
+        parts.add(BodyPublishers.ofString("--" + boundary + LINE_BREAK
+                + "Content-Disposition: form-data; name=\"" + escape(name) + "\"" + LINE_BREAK
+                + "Content-Type: text/plain; charset=UTF-8" + LINE_BREAK + LINE_BREAK
+                + value + LINE_BREAK, UTF_8));
+    }
+
+    /**
+     * Method to add a file field
+     *
+     * @param name: the name of the field
+     * @param file: the file to upload
+     * @throws FileNotFoundException when the file on the disk does not exist
+     */
+    public void addFile(String name, InputFile file) throws FileNotFoundException {
+        parts.add(BodyPublishers.ofString("--" + boundary + LINE_BREAK
+                + "Content-Disposition: form-data; name=\"" + escape(name) + "\"; filename=\""
+                + escape(file.getFileName()) + "\"" + LINE_BREAK
+                + "Content-Type: " + file.getContentType() + LINE_BREAK + LINE_BREAK, UTF_8));
+        parts.add(file.toBodyPublisher());
+        parts.add(BodyPublishers.ofString(LINE_BREAK, UTF_8));
+    }
+
+    /**
+     * Method to create the publisher of the body <br>
+     * No-any params required
+     *
+     * @return publisher as {@link BodyPublisher}
+     */
+    public BodyPublisher toBodyPublisher() {
+        ArrayList<BodyPublisher> body = new ArrayList<>(parts);
+        body.add(BodyPublishers.ofString("--" + boundary + "--" + LINE_BREAK, UTF_8));
+        return BodyPublishers.concat(body.toArray(new BodyPublisher[0]));
+    }
+
+    /**
+     * Method to get the content type of the body <br>
+     * No-any params required
+     *
+     * @return content type as {@link String}
+     */
+    public String getContentType() {
+        return "multipart/form-data; boundary=" + boundary;
+    }
+
+    /**
+     * Method to escape a value of the {@code "Content-Disposition"} header
+     *
+     * @param value: the value to escape
+     * @return value escaped as {@link String}
+     */
+    private String escape(String value) {
+        return value.replace("\"", "%22").replace("\r", "%0D").replace("\n", "%0A");
+    }
+
+}
@@ -0,0 +1,227 @@
+package com.tecknobit.telegrammanager.botapi.managers.requests;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Predicate;
+
+/**
+ * The {@code RequestCoalescer} class is useful to avoid sending the same read request more times at the same time:
+ * the identical requests executed while one of them is in flight wait for its response instead of sending a new one.
+ * The successful responses can also be kept for a short time, so the identical requests executed soon after are
+ * answered without sending them
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote only the requests which do not change the state of the bot or of the chats should be coalesced
+ */
+public class RequestCoalescer {
+
+    /**
+     * {@code DEFAULT_CAPACITY} default number of responses kept in memory
+     */
+    public static final int DEFAULT_CAPACITY = 1000;
+
+    /**
+     * {@code inFlight} the requests in flight
+     */
+    private final ConcurrentHashMap<String, CompletableFuture<TelegramResponse>> inFlight;
+
+    /**
+     * {@code responses} the successful responses kept in memory from the least to the most recently used, can be
+     * {@code "null"}
+     */
+    private final LinkedHashMap<String, CachedResponse> responses;
+
+    /**
+     * {@code ttl} the time in nanos that a response is kept in memory
+     */
+    private final long ttl;
+
+    /**
+     * Constructor to init {@link RequestCoalescer} without keeping the responses in memory <br>
+     * No-any params required
+     */
+    public RequestCoalescer() {
+        this(0, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor to init {@link RequestCoalescer}
+     *
+     * @param ttlMillis: the time in millis that a response is kept in memory, {@code "0"} to not keep the responses
+     * @param capacity:  the maximum number of responses kept in memory
+     */
+    public RequestCoalescer(long ttlMillis, int capacity) {
+        if (ttlMillis < 0)
+            throw new IllegalArgumentException("The ttl value cannot be negative");
+        if (capacity <= 0)
+            throw new IllegalArgumentException("The capacity must be a positive value");
+        inFlight = new ConcurrentHashMap<>();
+        ttl = ttlMillis * 1000000;
+        if (ttlMillis > 0) {
+            responses = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                    return size() > capacity;
+                }
+            };
+        } else
+            responses = null;
+    }
+
+    /**
+     * Method to execute a request or to wait for the response of the identical request in flight
+     *
+     * @param key:     the key which identifies the request
+     * @param request: the request to execute
+     * @return response of the request as {@link TelegramResponse}
+     * @throws IOException when the request has not been answered
+     */
+    public TelegramResponse execute(String key, Request request) throws IOException {
+        TelegramResponse response = getCachedResponse(key);
+        if (response != null)
+            return response;
+        CompletableFuture<TelegramResponse> flight = new CompletableFuture<>();
+        CompletableFuture<TelegramResponse> current = inFlight.putIfAbsent(key, flight);
+        if (current != null)
+            return waitResponse(current);
+        try {
+            response = request.execute();
+            if (responses != null && response.isSuccessful()) {
+                synchronized (responses) {
+                    responses.put(key, new CachedResponse(response, System.nanoTime() + ttl));
+                }
+            }
+            flight.complete(response);
+            return response;
+        } catch (IOException | RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Method to get a response kept in memory
+     *
+     * @param key: the key which identifies the request
+     * @return response as {@link TelegramResponse}, {@code "null"} if it is not kept in memory or it is expired
+     */
+    private TelegramResponse getCachedResponse(String key) {
+        if (responses == null)
+            return null;
+        synchronized (responses) {
+            CachedResponse cachedResponse = responses.get(key);
+            if (cachedResponse == null)
+                return null;
+            if (System.nanoTime() - cachedResponse.expiration >= 0) {
+                responses.remove(key);
+                return null;
+            }
+            return cachedResponse.response;
+        }
+    }
+
+    /**
+     * Method to wait for the response of a request in flight
+     *
+     * @param flight: the request in flight
+     * @return response of the request as {@link TelegramResponse}
+     * @throws IOException when the request has not been answered
+     */
+    private TelegramResponse waitResponse(CompletableFuture<TelegramResponse> flight) throws IOException {
+        try {
+            return flight.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the response");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException)
+                throw new IOException(ioException.getMessage(), ioException);
+            if (cause instanceof RuntimeException runtimeException)
+                throw runtimeException;
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Method to remove from the memory the responses of the requests which match a condition
+     *
+     * @param keys: the condition which the keys of the requests to remove must match
+     */
+    public void invalidate(Predicate<String> keys) {
+        if (responses == null)
+            return;
+        synchronized (responses) {
+            responses.keySet().removeIf(keys);
+        }
+    }
+
+    /**
+     * Method to remove all the responses kept in memory <br>
+     * No-any params required
+     */
+    public void clear() {
+        if (responses == null)
+            return;
+        synchronized (responses) {
+            responses.clear();
+        }
+    }
+
+    /**
+     * The {@code Request} interface is useful to execute a request coalesced by the {@link RequestCoalescer}
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    @FunctionalInterface
+    public interface Request {
+
+        /**
+         * Method to execute the request <br>
+         * No-any params required
+         *
+         * @return response of the request as {@link TelegramResponse}
+         * @throws IOException when the request has not been answered
+         */
+        TelegramResponse execute() throws IOException;
+
+    }
+
+    /**
+     * The {@code CachedResponse} class is useful to hold a response kept in memory
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     */
+    private static class CachedResponse {
+
+        /**
+         * {@code response} the response kept in memory
+         */
+        private final TelegramResponse response;
+
+        /**
+         * {@code expiration} the time in nanos when the response expires
+         */
+        private final long expiration;
+
+        /**
+         * Constructor to init {@link CachedResponse}
+         *
+         * @param response:   the response kept in memory
+         * @param expiration: the time in nanos when the response expires
+         */
+        private CachedResponse(TelegramResponse response, long expiration) {
+            this.response = response;
+            this.expiration = expiration;
+        }
+
+    }
+
+}
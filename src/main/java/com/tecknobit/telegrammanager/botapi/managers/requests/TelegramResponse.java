@@ -0,0 +1,125 @@
+package com.tecknobit.telegrammanager.botapi.managers.requests;
+
+import com.tecknobit.telegrammanager.botapi.records.structures.TelegramType.ResponseParameters;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * The {@code TelegramResponse} class is useful to hold the details of the response of a single request
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ */
+public class TelegramResponse {
+
+    /**
+     * {@code TOO_MANY_REQUESTS_CODE} the status code of the responses when the flood limits have been exceeded
+     */
+    public static final int TOO_MANY_REQUESTS_CODE = 429;
+
+    /**
+     * {@code statusCode} status code of the response
+     */
+    private final int statusCode;
+
+    /**
+     * {@code response} body of the response when the request has been successful
+     */
+    private final String response;
+
+    /**
+     * {@code errorResponse} body of the response when the request has been go wrong
+     */
+    private final String errorResponse;
+
+    /**
+     * Constructor to init {@link TelegramResponse}
+     *
+     * @param statusCode:    status code of the response
+     * @param response:      body of the response when the request has been successful
+     * @param errorResponse: body of the response when the request has been go wrong
+     */
+    public TelegramResponse(int statusCode, String response, String errorResponse) {
+        this.statusCode = statusCode;
+        this.response = response;
+        this.errorResponse = errorResponse;
+    }
+
+    /**
+     * Method to get {@link #statusCode} instance <br>
+     * No-any params required
+     *
+     * @return {@link #statusCode} instance as int
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Method to get {@link #response} instance <br>
+     * No-any params required
+     *
+     * @return {@link #response} instance as {@link String}
+     */
+    public String getResponse() {
+        return response;
+    }
+
+    /**
+     * Method to get {@link #errorResponse} instance <br>
+     * No-any params required
+     *
+     * @return {@link #errorResponse} instance as {@link String}
+     */
+    public String getErrorResponse() {
+        return errorResponse;
+    }
+
+    /**
+     * Method to get the {@link #errorResponse} formatted as JSON <br>
+     * No-any params required
+     *
+     * @return error response as {@link JSONObject} or {@link JSONArray}, {@code "null"} if it is not a JSON value
+     */
+    public <T> T getJSONErrorResponse() {
+        if (errorResponse == null)
+            return null;
+        try {
+            return (T) new JSONObject(errorResponse);
+        } catch (Exception e) {
+            try {
+                return (T) new JSONArray(errorResponse);
+            } catch (Exception ignored) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Method to get whether the request has been successful <br>
+     * No-any params required
+     *
+     * @return whether the request has been successful as boolean
+     */
+    public boolean isSuccessful() {
+        return statusCode >= 200 && statusCode < 300;
+    }
+
+    /**
+     * Method to fetch the {@code "retry_after"} value from the response <br>
+     * No-any params required
+     *
+     * @return the number of seconds left to wait before the request can be repeated as long, {@code "-1"} if the
+     * request has not exceeded the flood limits
+     */
+    public long getRetryAfter() {
+        if (statusCode != TOO_MANY_REQUESTS_CODE)
+            return -1;
+        String body = errorResponse != null ? errorResponse : response;
+        try {
+            return new ResponseParameters(new JSONObject(body).getJSONObject("parameters")).getRetryAfter();
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.tecknobit.telegrammanager.botapi.managers.updates;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * The {@code FileOffsetStore} class is useful to persist the offset of the updates already handled in a file. The file
+ * is mapped in memory, so each commit writes only the offset and then it is flushed to the disk
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the offset is stored together with its complement, so an offset partially written is detected and the
+ * offset is considered as not stored
+ * @see OffsetStore
+ */
+public class FileOffsetStore implements OffsetStore, Closeable {
+
+    /**
+     * {@code RECORD_SIZE} size in bytes of the record stored in the file
+     */
+    private static final int RECORD_SIZE = 2 * Long.BYTES;
+
+    /**
+     * {@code channel} the channel of the file
+     */
+    private final FileChannel channel;
+
+    /**
+     * {@code record} the record of the file mapped in memory
+     */
+    private final MappedByteBuffer record;
+
+    /**
+     * {@code committedOffset} the last offset stored
+     */
+    private long committedOffset;
+
+    /**
+     * Constructor to init {@link FileOffsetStore}
+     *
+     * @param path: the path of the file, if it does not exist will be created
+     * @throws IOException when the file cannot be opened
+     */
+    public FileOffsetStore(Path path) throws IOException {
+        channel = FileChannel.open(path, CREATE, READ, WRITE);
+        try {
+            record = channel.map(READ_WRITE, 0, RECORD_SIZE);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        committedOffset = readOffset();
+    }
+
+    /**
+     * Method to load the offset stored <br>
+     * No-any params required
+     *
+     * @return identifier of the first update not handled yet as long, {@code "0"} if no offset has been stored
+     */
+    @Override
+    public synchronized long load() {
+        return committedOffset;
+    }
+
+    /**
+     * Method to store the offset of the updates already handled
+     *
+     * @param offset: identifier of the first update not handled yet
+     * @apiNote the file is written only when the offset has been changed
+     */
+    @Override
+    public synchronized void commit(long offset) {
+        if (offset == committedOffset)
+            return;
+        record.putLong(0, offset);
+        record.putLong(Long.BYTES, ~offset);
+        record.force();
+        committedOffset = offset;
+    }
+
+    /**
+     * Method to read the offset from the file <br>
+     * No-any params required
+     *
+     * @return offset as long, {@code "0"} if no valid offset has been stored
+     */
+    private long readOffset() {
+        long offset = record.getLong(0);
+        if (record.getLong(Long.BYTES) != ~offset)
+            return 0;
+        return offset;
+    }
+
+    /**
+     * Method to close the file <br>
+     * No-any params required
+     *
+     * @throws IOException when the file cannot be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+}
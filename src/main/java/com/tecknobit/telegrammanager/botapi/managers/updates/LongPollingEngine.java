@@ -0,0 +1,493 @@
+package com.tecknobit.telegrammanager.botapi.managers.updates;
+
+import com.tecknobit.telegrammanager.botapi.managers.TelegramManager.Params;
+import com.tecknobit.telegrammanager.botapi.managers.updates.records.Update;
+import org.json.JSONArray;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * The {@code LongPollingEngine} class is useful to receive the updates with a managed long polling loop built on top of
+ * the {@code "getUpdates"} request of the {@link UpdatesManager}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the engine keeps the next {@code "getUpdates"} request in flight while the previous batch is handled by the
+ * {@link UpdatesHandler}, the {@link #getConfirmedOffset()} is moved forward only when the handler has finished with a
+ * batch. Each poll is sent with the {@link #getConfirmedOffset()}, so {@code Telegram} does not confirm the updates
+ * still waiting to be handled, and the updates returned again are skipped. The updates are decoded while the response
+ * is read with the {@link UpdatesStreamParser}
+ * @see UpdatesManager
+ */
+public class LongPollingEngine {
+
+    /**
+     * {@code DEFAULT_POLL_TIMEOUT} default timeout in seconds for the long polling
+     */
+    public static final int DEFAULT_POLL_TIMEOUT = 50;
+
+    /**
+     * {@code DEFAULT_LIMIT} default limit of the updates to be retrieved for each request
+     */
+    public static final int DEFAULT_LIMIT = 100;
+
+    /**
+     * {@code DEFAULT_MAX_PENDING_BATCHES} default number of batches that can wait to be handled while the next poll
+     * is in flight
+     */
+    public static final int DEFAULT_MAX_PENDING_BATCHES = 1;
+
+    /**
+     * {@code MAX_RETRY_DELAY} maximum delay in millis between two retries when a poll fails
+     */
+    private static final long MAX_RETRY_DELAY = 30000;
+
+    /**
+     * {@code END_OF_POLLING} marker used to notify the handling thread that the polling has been stopped
+     */
+    private static final List<Update> END_OF_POLLING = new ArrayList<>();
+
+    /**
+     * {@code updatesManager} the manager used to fetch the updates
+     */
+    private final UpdatesManager updatesManager;
+
+    /**
+     * {@code handler} the handler of the updates received
+     */
+    private final UpdatesHandler handler;
+
+    /**
+     * {@code pollTimeout} timeout in seconds for the long polling
+     */
+    private final int pollTimeout;
+
+    /**
+     * {@code limit} limits the number of updates to be retrieved. Values between 1-100 are accepted
+     */
+    private final int limit;
+
+    /**
+     * {@code maxPendingBatches} number of batches that can wait to be handled while the next poll is in flight
+     *
+     * @apiNote if is {@code "0"} the next poll will start only when the previous batch has been handled
+     */
+    private final int maxPendingBatches;
+
+    /**
+     * {@code allowedUpdates} list of the update types you want your bot to receive
+     */
+    private final String[] allowedUpdates;
+
+    /**
+     * {@code pendingBatches} the batches received and not handled yet
+     */
+    private final BlockingQueue<List<Update>> pendingBatches;
+
+    /**
+     * {@code running} whether the engine is running
+     */
+    private final AtomicBoolean running;
+
+    /**
+     * {@code drainLock} lock used to wait that all the pending batches have been handled
+     */
+    private final Object drainLock;
+
+    /**
+     * {@code pendingCount} the number of batches received and not handled yet
+     */
+    private int pendingCount;
+
+    /**
+     * {@code failed} whether the handler has failed to handle a batch, in this case the next batches are not handled
+     */
+    private volatile boolean failed;
+
+    /**
+     * {@code receivedOffset} identifier of the first update not received yet, the updates with a lower identifier
+     * returned again by the next polls are skipped
+     */
+    private volatile long receivedOffset;
+
+    /**
+     * {@code confirmedOffset} identifier of the first update not handled yet
+     */
+    private volatile long confirmedOffset;
+
+    /**
+     * {@code errorListener} the listener of the errors occurred during the polling or the handling of the updates
+     */
+    private volatile Consumer<Exception> errorListener;
+
+    /**
+     * {@code offsetStore} the store where the {@link #confirmedOffset} is committed, can be {@code "null"}
+     */
+    private volatile OffsetStore offsetStore;
+
+    /**
+     * {@code pollingThread} the thread which executes the polling requests
+     */
+    private Thread pollingThread;
+
+    /**
+     * {@code handlingThread} the thread which handles the batches received
+     */
+    private Thread handlingThread;
+
+    /**
+     * Constructor to init {@link LongPollingEngine}
+     *
+     * @param updatesManager: the manager used to fetch the updates
+     * @param handler:        the handler of the updates received
+     */
+    public LongPollingEngine(UpdatesManager updatesManager, UpdatesHandler handler) {
+        this(updatesManager, handler, DEFAULT_POLL_TIMEOUT, DEFAULT_LIMIT, DEFAULT_MAX_PENDING_BATCHES);
+    }
+
+    /**
+     * Constructor to init {@link LongPollingEngine}
+     *
+     * @param updatesManager:    the manager used to fetch the updates
+     * @param handler:           the handler of the updates received
+     * @param pollTimeout:       timeout in seconds for the long polling
+     * @param limit:             limits the number of updates to be retrieved. Values between 1-100 are accepted
+     * @param maxPendingBatches: number of batches that can wait to be handled while the next poll is in flight. The
+     *                           polls are sent with the offset of the first update not handled yet, so the updates
+     *                           waiting to be handled are returned again, and skipped, by the polls in flight: they
+     *                           are downloaded more times and they reduce the new updates returned by each poll. When a
+     *                           poll returns only updates already received, the next poll waits for the current batch
+     *                           to be handled. With {@code "0"} each update is downloaded only once, but no poll is in
+     *                           flight while a batch is handled
+     * @param allowedUpdates:    list of the update types you want your bot to receive
+     */
+    public LongPollingEngine(UpdatesManager updatesManager, UpdatesHandler handler, int pollTimeout, int limit,
+                             int maxPendingBatches, String... allowedUpdates) {
+        if (pollTimeout < 0)
+            throw new IllegalArgumentException("The poll timeout cannot be negative");
+        if (limit < 1 || limit > 100)
+            throw new IllegalArgumentException("The limit value must be between 1 and 100");
+        if (maxPendingBatches < 0)
+            throw new IllegalArgumentException("The max pending batches value cannot be negative");
+        this.updatesManager = updatesManager;
+        this.handler = handler;
+        this.pollTimeout = pollTimeout;
+        this.limit = limit;
+        this.maxPendingBatches = maxPendingBatches;
+        if (allowedUpdates != null && allowedUpdates.length > 0)
+            this.allowedUpdates = allowedUpdates;
+        else
+            this.allowedUpdates = null;
+        if (maxPendingBatches > 0)
+            pendingBatches = new ArrayBlockingQueue<>(maxPendingBatches + 1);
+        else
+            pendingBatches = null;
+        running = new AtomicBoolean(false);
+        drainLock = new Object();
+        errorListener = Throwable::printStackTrace;
+    }
+
+    /**
+     * Method to start the engine, the polling will start from the {@link #confirmedOffset} or, if the
+     * {@link #offsetStore} is set, from the offset stored <br>
+     * No-any params required
+     *
+     * @throws IllegalStateException when the engine is already running
+     * @throws IOException           when the offset stored cannot be read or the current thread is interrupted while
+     *                               waiting that a previous run stopped after a failure ends
+     */
+    public synchronized void start() throws IOException {
+        if (running.get())
+            throw new IllegalStateException("The engine is already running");
+        try {
+            stop();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting the end of the previous run");
+        }
+        failed = false;
+        if (offsetStore != null)
+            confirmedOffset = offsetStore.load();
+        running.set(true);
+        receivedOffset = confirmedOffset;
+        if (pendingBatches != null) {
+            handlingThread = new Thread(this::handleBatches, "telegram-updates-handler");
+            handlingThread.start();
+        }
+        pollingThread = new Thread(this::poll, "telegram-updates-poller");
+        pollingThread.start();
+    }
+
+    /**
+     * Method to stop the engine, this method waits that the poll in flight returns and that all the batches received
+     * have been handled <br>
+     * No-any params required
+     *
+     * @throws InterruptedException when the current thread is interrupted while waiting
+     * @apiNote when the engine has been stopped after a failure of the handler, this method waits that its threads
+     * end, the batches received after the failed one are not handled
+     */
+    public synchronized void stop() throws InterruptedException {
+        if (pollingThread == null)
+            return;
+        running.set(false);
+        synchronized (drainLock) {
+            drainLock.notifyAll();
+        }
+        pollingThread.join();
+        if (handlingThread != null)
+            handlingThread.join();
+        pollingThread = null;
+        handlingThread = null;
+    }
+
+    /**
+     * Method to wait that all the batches received so far have been handled, the polling is not stopped <br>
+     * No-any params required
+     *
+     * @throws InterruptedException when the current thread is interrupted while waiting
+     */
+    public void drain() throws InterruptedException {
+        synchronized (drainLock) {
+            while (pendingCount > 0)
+                drainLock.wait();
+        }
+    }
+
+    /**
+     * Method to execute the polling loop <br>
+     * No-any params required
+     */
+    private void poll() {
+        long retryDelay = 1000;
+        try {
+            while (running.get()) {
+                try {
+                    ArrayList<Update> updates = new ArrayList<>(limit);
+                    long offset = confirmedOffset;
+                    int received = updatesManager.getUpdates(createPollParams(offset), update -> {
+                        if (update.getUpdateId() >= receivedOffset)
+                            updates.add(update);
+                    });
+                    retryDelay = 1000;
+                    if (updates.isEmpty()) {
+                        if (received > 0)
+                            awaitConfirmation(offset);
+                        continue;
+                    }
+                    receivedOffset = updates.get(updates.size() - 1).getUpdateId() + 1;
+                    changePendingCount(1);
+                    if (pendingBatches != null)
+                        pendingBatches.put(updates);
+                    else
+                        handleBatch(updates);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Exception e) {
+                    errorListener.accept(e);
+                    awaitRetry(retryDelay);
+                    retryDelay = Math.min(retryDelay * 2, MAX_RETRY_DELAY);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            running.set(false);
+            if (pendingBatches != null) {
+                try {
+                    pendingBatches.put(END_OF_POLLING);
+                } catch (InterruptedException e) {
+                    handlingThread.interrupt();
+                }
+            }
+        }
+    }
+
+    /**
+     * Method to wait before retrying a failed poll, the wait ends as soon as the engine is stopped
+     *
+     * @param retryDelay: the time in millis to wait before retrying the poll
+     * @throws InterruptedException when the current thread is interrupted while waiting
+     */
+    private void awaitRetry(long retryDelay) throws InterruptedException {
+        long deadline = System.nanoTime() + MILLISECONDS.toNanos(retryDelay);
+        synchronized (drainLock) {
+            long remaining;
+            while (running.get() && (remaining = deadline - System.nanoTime()) > 0)
+                NANOSECONDS.timedWait(drainLock, remaining);
+        }
+    }
+
+    /**
+     * Method to wait that the handler confirms a batch, used when a poll returns only updates already received
+     *
+     * @param offset: the {@link #confirmedOffset} used by the poll
+     * @throws InterruptedException when the current thread is interrupted while waiting
+     */
+    private void awaitConfirmation(long offset) throws InterruptedException {
+        synchronized (drainLock) {
+            while (running.get() && confirmedOffset == offset && pendingCount > 0)
+                drainLock.wait();
+        }
+    }
+
+    /**
+     * Method to create the params for the next poll
+     *
+     * @param offset: identifier of the first update to be returned
+     * @return params as {@link Params}
+     */
+    private Params createPollParams(long offset) {
+        Params params = new Params();
+        params.addParam("offset", offset);
+        params.addParam("limit", limit);
+        params.addParam("timeout", pollTimeout);
+        if (allowedUpdates != null)
+            params.addParam("allowed_updates", new JSONArray(allowedUpdates));
+        return params;
+    }
+
+    /**
+     * Method to handle the batches received until the polling is stopped <br>
+     * No-any params required
+     */
+    private void handleBatches() {
+        try {
+            List<Update> updates;
+            while ((updates = pendingBatches.take()) != END_OF_POLLING)
+                handleBatch(updates);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Method to handle a batch of updates, the {@link #confirmedOffset} is moved forward only if the handler has
+     * handled the batch, otherwise the engine is stopped and the next batches are not handled
+     *
+     * @param updates: the batch of updates to handle
+     */
+    private void handleBatch(List<Update> updates) {
+        try {
+            if (failed)
+                return;
+            handler.onUpdates(updates);
+            synchronized (drainLock) {
+                confirmedOffset = updates.get(updates.size() - 1).getUpdateId() + 1;
+            }
+            commitOffset();
+        } catch (Exception e) {
+            failed = true;
+            running.set(false);
+            errorListener.accept(e);
+        } finally {
+            changePendingCount(-1);
+        }
+    }
+
+    /**
+     * Method to commit the {@link #confirmedOffset} in the {@link #offsetStore} <br>
+     * No-any params required
+     */
+    private void commitOffset() {
+        OffsetStore store = offsetStore;
+        if (store == null)
+            return;
+        try {
+            store.commit(confirmedOffset);
+        } catch (Exception e) {
+            errorListener.accept(e);
+        }
+    }
+
+    /**
+     * Method to change the number of the pending batches
+     *
+     * @param delta: the value to add to the pending count
+     */
+    private void changePendingCount(int delta) {
+        synchronized (drainLock) {
+            pendingCount += delta;
+            drainLock.notifyAll();
+        }
+    }
+
+    /**
+     * Method to get {@link #confirmedOffset} instance <br>
+     * No-any params required
+     *
+     * @return {@link #confirmedOffset} instance as long
+     */
+    public long getConfirmedOffset() {
+        return confirmedOffset;
+    }
+
+    /**
+     * Method to set {@link #confirmedOffset} instance, useful to resume the polling from a known offset
+     *
+     * @param confirmedOffset: identifier of the first update to be returned when the engine starts
+     * @throws IllegalStateException when the engine is running
+     */
+    public synchronized void setConfirmedOffset(long confirmedOffset) {
+        if (running.get())
+            throw new IllegalStateException("The offset cannot be changed while the engine is running");
+        this.confirmedOffset = confirmedOffset;
+    }
+
+    /**
+     * Method to get {@link #offsetStore} instance <br>
+     * No-any params required
+     *
+     * @return {@link #offsetStore} instance as {@link OffsetStore}
+     */
+    public OffsetStore getOffsetStore() {
+        return offsetStore;
+    }
+
+    /**
+     * Method to set {@link #offsetStore} instance
+     *
+     * @param offsetStore: the store where commit the offset of the updates handled, {@code "null"} to not store it
+     * @throws IllegalStateException when the engine is running
+     * @apiNote the offset is committed after each batch has been handled without exceptions. When the handler throws
+     * an exception the engine is stopped and the batch is not confirmed, so it is received again when the engine is
+     * started again, also after a restart of the application (at-least-once delivery). To skip the updates which
+     * cannot be handled, catch their exceptions inside the handler
+     */
+    public synchronized void setOffsetStore(OffsetStore offsetStore) {
+        if (running.get())
+            throw new IllegalStateException("The offset store cannot be changed while the engine is running");
+        this.offsetStore = offsetStore;
+    }
+
+    /**
+     * Method to get whether the engine is running <br>
+     * No-any params required
+     *
+     * @return whether the engine is running as boolean
+     */
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * Method to set {@link #errorListener} instance
+     *
+     * @param errorListener: the listener of the errors occurred during the polling or the handling of the updates
+     * @apiNote the errors of the polling are retried, an error of the handler stops the engine
+     */
+    public void setErrorListener(Consumer<Exception> errorListener) {
+        this.errorListener = errorListener;
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.tecknobit.telegrammanager.botapi.managers.updates;
+
+/**
+ * The {@code MemoryOffsetStore} class is useful to keep the offset of the updates already handled in memory, for
+ * example to share it between more {@link LongPollingEngine} started one after the other
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the offset is lost when the application is stopped
+ * @see OffsetStore
+ */
+public class MemoryOffsetStore implements OffsetStore {
+
+    /**
+     * {@code offset} identifier of the first update not handled yet
+     */
+    private volatile long offset;
+
+    /**
+     * Method to load the offset stored <br>
+     * No-any params required
+     *
+     * @return identifier of the first update not handled yet as long, {@code "0"} if no offset has been stored
+     */
+    @Override
+    public long load() {
+        return offset;
+    }
+
+    /**
+     * Method to store the offset of the updates already handled
+     *
+     * @param offset: identifier of the first update not handled yet
+     */
+    @Override
+    public void commit(long offset) {
+        this.offset = offset;
+    }
+
+}
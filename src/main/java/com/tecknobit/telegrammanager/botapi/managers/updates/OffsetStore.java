@@ -0,0 +1,33 @@
+package com.tecknobit.telegrammanager.botapi.managers.updates;
+
+import java.io.IOException;
+
+/**
+ * The {@code OffsetStore} interface is useful to persist the offset of the updates already handled, so the polling
+ * can be resumed from the first update not handled after a restart
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see LongPollingEngine
+ * @see FileOffsetStore
+ * @see MemoryOffsetStore
+ */
+public interface OffsetStore {
+
+    /**
+     * Method to load the offset stored <br>
+     * No-any params required
+     *
+     * @return identifier of the first update not handled yet as long, {@code "0"} if no offset has been stored
+     * @throws IOException when the offset cannot be read
+     */
+    long load() throws IOException;
+
+    /**
+     * Method to store the offset of the updates already handled
+     *
+     * @param offset: identifier of the first update not handled yet
+     * @throws IOException when the offset cannot be written
+     */
+    void commit(long offset) throws IOException;
+
+}
@@ -0,0 +1,177 @@
+package com.tecknobit.telegrammanager.botapi.managers.updates;
+
+import com.tecknobit.telegrammanager.botapi.managers.updates.records.Update;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The {@code UpdatesDeduplicator} class is useful to handle only once the updates received more times, for example
+ * when a webhook request is repeated or when the polling is restarted from an old offset. The identifiers of the
+ * updates received recently are kept in a bitmap relative to the highest identifier received, so the memory used does
+ * not depend on the number of the updates received
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the updates older than the {@link #window} are considered as already received. The deduplicator can wrap
+ * any {@link UpdatesHandler}, for example as handler of a {@link LongPollingEngine} or of a {@link WebhookServer}
+ * @see UpdatesHandler
+ */
+public class UpdatesDeduplicator implements UpdatesHandler {
+
+    /**
+     * {@code DEFAULT_WINDOW} default number of the most recent identifiers remembered
+     */
+    public static final int DEFAULT_WINDOW = 1 << 16;
+
+    /**
+     * {@code handler} the handler of the updates not received yet
+     */
+    private final UpdatesHandler handler;
+
+    /**
+     * {@code window} number of the most recent identifiers remembered
+     */
+    private final int window;
+
+    /**
+     * {@code bitmap} the identifiers received in the {@link #window}, each identifier is stored in the bit of its
+     * value modulo the window
+     */
+    private final long[] bitmap;
+
+    /**
+     * {@code highestId} the highest identifier received, {@code "-1"} if no update has been received
+     */
+    private long highestId;
+
+    /**
+     * Constructor to init {@link UpdatesDeduplicator} with the {@link #DEFAULT_WINDOW}
+     *
+     * @param handler: the handler of the updates not received yet
+     */
+    public UpdatesDeduplicator(UpdatesHandler handler) {
+        this(handler, DEFAULT_WINDOW);
+    }
+
+    /**
+     * Constructor to init {@link UpdatesDeduplicator}
+     *
+     * @param handler: the handler of the updates not received yet
+     * @param window:  number of the most recent identifiers remembered, must be a power of two
+     */
+    public UpdatesDeduplicator(UpdatesHandler handler, int window) {
+        if (window < Long.SIZE || Integer.bitCount(window) != 1)
+            throw new IllegalArgumentException("The window must be a power of two not less than " + Long.SIZE);
+        this.handler = handler;
+        this.window = window;
+        bitmap = new long[window / Long.SIZE];
+        highestId = -1;
+    }
+
+    /**
+     * Method to handle a single update, the update is passed to the {@link #handler} only if it has not been received
+     * yet
+     *
+     * @param update: the update to handle
+     * @throws Exception when the handling of the update has been go wrong, in this case the update is forgotten and
+     *                   it will be handled if received again
+     */
+    @Override
+    public void onUpdate(Update update) throws Exception {
+        long updateId = update.getUpdateId();
+        if (!markReceived(updateId))
+            return;
+        try {
+            handler.onUpdate(update);
+        } catch (Exception e) {
+            forget(updateId);
+            throw e;
+        }
+    }
+
+    /**
+     * Method to handle a batch of updates, only the updates not received yet are passed to the {@link #handler}
+     *
+     * @param updates: the updates to handle in the same order they have been received
+     * @throws Exception when the handling of the updates has been go wrong, in this case the updates are forgotten and
+     *                   they will be handled if received again
+     */
+    @Override
+    public void onUpdates(List<Update> updates) throws Exception {
+        ArrayList<Update> newUpdates = new ArrayList<>(updates.size());
+        for (Update update : updates)
+            if (markReceived(update.getUpdateId()))
+                newUpdates.add(update);
+        if (newUpdates.isEmpty())
+            return;
+        try {
+            handler.onUpdates(newUpdates);
+        } catch (Exception e) {
+            for (Update update : newUpdates)
+                forget(update.getUpdateId());
+            throw e;
+        }
+    }
+
+    /**
+     * Method to mark an update as received
+     *
+     * @param updateId: identifier of the update
+     * @return whether the update has not been received yet as boolean
+     */
+    public synchronized boolean markReceived(long updateId) {
+        if (updateId > highestId) {
+            if (highestId < 0 || updateId - highestId >= window)
+                Arrays.fill(bitmap, 0);
+            else
+                for (long id = highestId + 1; id <= updateId; id++)
+                    clearBit(id);
+            highestId = updateId;
+        } else if (highestId - updateId >= window)
+            return false;
+        int bit = (int) (updateId & (window - 1));
+        long mask = 1L << bit;
+        int word = bit >>> 6;
+        if ((bitmap[word] & mask) != 0)
+            return false;
+        bitmap[word] |= mask;
+        return true;
+    }
+
+    /**
+     * Method to get whether an update has been already received
+     *
+     * @param updateId: identifier of the update
+     * @return whether the update has been already received as boolean
+     */
+    public synchronized boolean isReceived(long updateId) {
+        if (updateId > highestId)
+            return false;
+        if (highestId - updateId >= window)
+            return true;
+        int bit = (int) (updateId & (window - 1));
+        return (bitmap[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    /**
+     * Method to forget an update, so it will be handled if received again
+     *
+     * @param updateId: identifier of the update
+     */
+    public synchronized void forget(long updateId) {
+        if (updateId <= highestId && highestId - updateId < window)
+            clearBit(updateId);
+    }
+
+    /**
+     * Method to clear the bit of an identifier
+     *
+     * @param updateId: identifier of the update
+     */
+    private void clearBit(long updateId) {
+        int bit = (int) (updateId & (window - 1));
+        bitmap[bit >>> 6] &= ~(1L << bit);
+    }
+
+}
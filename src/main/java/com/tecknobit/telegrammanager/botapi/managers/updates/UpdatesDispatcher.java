@@ -0,0 +1,255 @@
+package com.tecknobit.telegrammanager.botapi.managers.updates;
+
+import com.tecknobit.telegrammanager.botapi.managers.TelegramExecutors;
+import com.tecknobit.telegrammanager.botapi.managers.identifiers.chat.records.Chat;
+import com.tecknobit.telegrammanager.botapi.managers.identifiers.chat.records.attachments.Poll.PollAnswer;
+import com.tecknobit.telegrammanager.botapi.managers.profile.records.User;
+import com.tecknobit.telegrammanager.botapi.managers.updates.records.Update;
+import com.tecknobit.telegrammanager.botapi.records.basetypes.CallbackQuery;
+import com.tecknobit.telegrammanager.botapi.records.basetypes.message.Message;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+
+/**
+ * The {@code UpdatesDispatcher} class is useful to handle the updates in parallel across the chats, keeping strictly
+ * ordered the updates which belong to the same chat
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the updates must be dispatched in the same order they have been received, the dispatcher can be used
+ * directly as {@link UpdatesHandler} of a {@link LongPollingEngine}. By default, on JDK 21+ each update is handled in a
+ * new virtual thread
+ * @see UpdatesHandler
+ */
+public class UpdatesDispatcher implements UpdatesHandler, AutoCloseable {
+
+    /**
+     * {@code handler} the handler of the single updates
+     */
+    private final UpdatesHandler handler;
+
+    /**
+     * {@code executor} the executor used to handle the updates
+     */
+    private final ExecutorService executor;
+
+    /**
+     * {@code ownExecutor} whether the {@link #executor} has been created by the dispatcher
+     */
+    private final boolean ownExecutor;
+
+    /**
+     * {@code chatsTails} the last update dispatched for each chat not handled yet
+     */
+    private final ConcurrentHashMap<Long, CompletableFuture<Void>> chatsTails;
+
+    /**
+     * {@code errorListener} the listener of the errors occurred during the handling of the updates
+     */
+    private volatile Consumer<Exception> errorListener;
+
+    /**
+     * Constructor to init {@link UpdatesDispatcher}
+     *
+     * @param handler: the handler of the single updates
+     */
+    public UpdatesDispatcher(UpdatesHandler handler) {
+        this(handler, TelegramExecutors.newThreadPerTaskExecutor("telegram-dispatcher"), true);
+    }
+
+    /**
+     * Constructor to init {@link UpdatesDispatcher}
+     *
+     * @param handler:  the handler of the single updates
+     * @param executor: the executor used to handle the updates
+     */
+    public UpdatesDispatcher(UpdatesHandler handler, ExecutorService executor) {
+        this(handler, executor, false);
+    }
+
+    /**
+     * Constructor to init {@link UpdatesDispatcher}
+     *
+     * @param handler:     the handler of the single updates
+     * @param executor:    the executor used to handle the updates
+     * @param ownExecutor: whether the executor has been created by the dispatcher
+     */
+    private UpdatesDispatcher(UpdatesHandler handler, ExecutorService executor, boolean ownExecutor) {
+        this.handler = handler;
+        this.executor = executor;
+        this.ownExecutor = ownExecutor;
+        chatsTails = new ConcurrentHashMap<>();
+        errorListener = Throwable::printStackTrace;
+    }
+
+    /**
+     * Method to dispatch an update, the update will be handled after all the updates of the same chat dispatched
+     * before it
+     *
+     * @param update: the update to dispatch
+     * @return the handling of the update as {@link CompletableFuture}
+     */
+    public CompletableFuture<Void> dispatch(Update update) {
+        Long chatId = getChatId(update);
+        if (chatId == null)
+            return CompletableFuture.runAsync(() -> handle(update), executor);
+        CompletableFuture<Void> handling = chatsTails.compute(chatId, (key, tail) -> {
+            if (tail == null)
+                return CompletableFuture.runAsync(() -> handle(update), executor);
+            return tail.exceptionally(throwable -> null).thenRunAsync(() -> handle(update), executor);
+        });
+        handling.whenComplete((result, throwable) -> chatsTails.remove(chatId, handling));
+        return handling;
+    }
+
+    /**
+     * Method to handle a single update, this method waits until the update has been handled
+     *
+     * @param update: the update to handle
+     * @throws Exception when the handling of the update has been go wrong
+     */
+    @Override
+    public void onUpdate(Update update) throws Exception {
+        try {
+            dispatch(update).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Exception cause)
+                throw cause;
+            throw e;
+        }
+    }
+
+    /**
+     * Method to handle a batch of updates, this method waits until all the updates of the batch have been handled
+     *
+     * @param updates: the updates to handle in the same order they have been received
+     * @throws Exception when the handling of any update has been go wrong, the error of the first update of the batch
+     *                   not handled is thrown after all the updates of the batch have been handled
+     * @apiNote the errors occurred are also notified to the {@link #errorListener}
+     */
+    @Override
+    public void onUpdates(List<Update> updates) throws Exception {
+        CompletableFuture<?>[] handlings = new CompletableFuture<?>[updates.size()];
+        for (int j = 0; j < handlings.length; j++)
+            handlings[j] = dispatch(updates.get(j));
+        CompletableFuture.allOf(handlings).exceptionally(throwable -> null).join();
+        for (CompletableFuture<?> handling : handlings) {
+            try {
+                handling.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof Exception cause)
+                    throw cause;
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Method to handle an update with the {@link #handler}
+     *
+     * @param update: the update to handle
+     */
+    private void handle(Update update) {
+        try {
+            handler.onUpdate(update);
+        } catch (Exception e) {
+            errorListener.accept(e);
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * Method to get the identifier of the chat which an update belongs
+     *
+     * @param update: the update from fetch the chat identifier
+     * @return identifier of the chat as {@link Long}, {@code "null"} if the update does not belong to any chat
+     * @apiNote when the update has no chat, as for the inline queries, will be used the identifier of the user who
+     * generated the update
+     */
+    public static Long getChatId(Update update) {
+        Message message = update.getMessage();
+        if (message == null)
+            message = update.getEditedMessage();
+        if (message == null)
+            message = update.getChannelPost();
+        if (message == null)
+            message = update.getEditeChannelPost();
+        if (message != null)
+            return getChatId(message.getChat());
+        CallbackQuery callbackQuery = update.getCallbackQuery();
+        if (callbackQuery != null) {
+            if (callbackQuery.getMessage() != null)
+                return getChatId(callbackQuery.getMessage().getChat());
+            return getUserId(callbackQuery.getFrom());
+        }
+        if (update.getMyChatMember() != null)
+            return getChatId(update.getMyChatMember().getChat());
+        if (update.getChatMember() != null)
+            return getChatId(update.getChatMember().getChat());
+        if (update.getChatJoinRequest() != null)
+            return getChatId(update.getChatJoinRequest().getChat());
+        if (update.getInlineQuery() != null)
+            return getUserId(update.getInlineQuery().getFrom());
+        if (update.getChosenInlineResult() != null)
+            return getUserId(update.getChosenInlineResult().getFrom());
+        if (update.getShippingQuery() != null)
+            return getUserId(update.getShippingQuery().getFrom());
+        if (update.getPreCheckoutQuery() != null)
+            return getUserId(update.getPreCheckoutQuery().getFrom());
+        PollAnswer pollAnswer = update.getPollAnswer();
+        if (pollAnswer != null) {
+            if (pollAnswer.getVoterChat() != null)
+                return getChatId(pollAnswer.getVoterChat());
+            return getUserId(pollAnswer.getUser());
+        }
+        return null;
+    }
+
+    /**
+     * Method to get the identifier of a chat
+     *
+     * @param chat: the chat from fetch the identifier
+     * @return identifier of the chat as {@link Long}, {@code "null"} if the chat is {@code "null"}
+     */
+    private static Long getChatId(Chat chat) {
+        if (chat == null)
+            return null;
+        return chat.getId();
+    }
+
+    /**
+     * Method to get the identifier of a user
+     *
+     * @param user: the user from fetch the identifier
+     * @return identifier of the user as {@link Long}, {@code "null"} if the user is {@code "null"}
+     */
+    private static Long getUserId(User user) {
+        if (user == null)
+            return null;
+        return user.getId();
+    }
+
+    /**
+     * Method to set {@link #errorListener} instance
+     *
+     * @param errorListener: the listener of the errors occurred during the handling of the updates
+     */
+    public void setErrorListener(Consumer<Exception> errorListener) {
+        this.errorListener = errorListener;
+    }
+
+    /**
+     * Method to close the dispatcher, if the executor has been created by the dispatcher it will be shut down <br>
+     * No-any params required
+     */
+    @Override
+    public void close() {
+        if (ownExecutor)
+            executor.shutdown();
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.tecknobit.telegrammanager.botapi.managers.updates;
+
+import com.tecknobit.telegrammanager.botapi.managers.updates.records.Update;
+
+import java.util.List;
+
+/**
+ * The {@code UpdatesHandler} interface is useful to handle the {@link Update} received from {@code Telegram}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see LongPollingEngine
+ */
+@FunctionalInterface
+public interface UpdatesHandler {
+
+    /**
+     * Method to handle a single update
+     *
+     * @param update: the update to handle
+     * @throws Exception when the handling of the update has been go wrong
+     */
+    void onUpdate(Update update) throws Exception;
+
+    /**
+     * Method to handle a batch of updates, when this method returns all the updates of the batch must be considered
+     * as handled
+     *
+     * @param updates: the updates to handle in the same order they have been received
+     * @throws Exception when the handling of the updates has been go wrong
+     * @implNote by default the updates are handled sequentially with {@link #onUpdate(Update)}
+     */
+    default void onUpdates(List<Update> updates) throws Exception {
+        for (Update update : updates)
+            onUpdate(update);
+    }
+
+}
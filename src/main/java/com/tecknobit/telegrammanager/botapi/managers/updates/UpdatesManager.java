@@ -4,17 +4,27 @@ import com.tecknobit.apimanager.annotations.RequestPath;
 import com.tecknobit.apimanager.annotations.Returner;
 import com.tecknobit.apimanager.annotations.Wrapper;
 import com.tecknobit.telegrammanager.botapi.managers.TelegramManager;
+import com.tecknobit.telegrammanager.botapi.managers.requests.TelegramResponse;
 import com.tecknobit.telegrammanager.botapi.managers.updates.records.Update;
 import com.tecknobit.telegrammanager.botapi.managers.updates.records.WebhookInfo;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.function.Consumer;
 
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.POST;
 import static com.tecknobit.telegrammanager.botapi.managers.TelegramManager.ReturnFormat.LIBRARY_OBJECT;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 /**
  * The {@code UpdatesManager} class is useful to format a {@code Telegram}'s updates manager
@@ -258,6 +268,78 @@ public class UpdatesManager extends TelegramManager {
         };
     }
 
+    /**
+     * Request to receive incoming updates using long polling (wiki), the response is decoded while it is read and each
+     * update is passed to the consumer as soon as it has been decoded
+     *
+     * @param parameters: additional params of the request, keys accepted are:
+     *                    <ul>
+     *                          <li>
+     *                               {@code "offset"} -> identifier of the first update to be returned. Must be greater
+     *                               by one than the highest among the identifiers of previously received updates - [Integer]
+     *                          </li>
+     *                          <li>
+     *                               {@code "limit"} -> limits the number of updates to be retrieved. Values between
+     *                               1-100 are accepted - [Integer, default 100]
+     *                          </li>
+     *                          <li>
+     *                               {@code "timeout"} -> timeout in seconds for long polling. Defaults to 0, i.e. usual
+     *                               short polling. Should be positive, short polling should be used for testing
+     *                               purposes only - [Integer, default 0]
+     *                          </li>
+     *                          <li>
+     *                               {@code "allowed_updates"} -> list of the update types you want your bot to
+     *                               receive - [Array of String]
+     *                          </li>
+     *                    </ul>
+     * @param consumer:   the consumer of the updates, it receives the updates in the same order they have been sent
+     * @return number of updates received as int
+     * @throws IOException when request has been go wrong -> you can use these methods to get more details about error:
+     *                     <ul>
+     *                         <li>
+     *                             {@link #getErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #getJSONErrorResponse()}
+     *                         </li>
+     *                         <li>
+     *                             {@link #printErrorResponse()}
+     *                         </li>
+     *                     </ul> using a {@code "try and catch statement"} during runtime, see how to do in {@code "README"} file
+     * @apiNote see the official documentation at: <a href="https://core.telegram.org/bots/api#getupdates">
+     * getUpdates</a>
+     */
+    @RequestPath(method = GET, path = "getUpdates")
+    public int getUpdates(Params parameters, Consumer<Update> consumer) throws IOException {
+        if (parameters == null)
+            parameters = new Params();
+        HttpRequest.Builder request = newRequest(createMethodUrl(GET_UPDATES_ENDPOINT)
+                + parameters.createQueryString()).GET();
+        Object timeout = parameters.getParamValue("timeout");
+        long pollTimeout = timeout != null ? Long.parseLong(timeout.toString()) * 1000 : 0;
+        request.timeout(Duration.ofMillis(Math.max(pollTimeout, 0) + requestTimeout));
+        HttpResponse<InputStream> response;
+        try {
+            response = getTransport().send(request.build(), BodyHandlers.ofInputStream());
+        } catch (IOException e) {
+            storeResponse(new TelegramResponse(-1, null, defaultErrorMessage));
+            throw e;
+        }
+        int statusCode = response.statusCode();
+        if (statusCode < 200 || statusCode >= 300) {
+            String errorResponse;
+            try (InputStream content = response.body()) {
+                errorResponse = new String(content.readAllBytes(), UTF_8);
+            }
+            storeResponse(new TelegramResponse(statusCode, null, errorResponse));
+            throw new IOException(errorResponse);
+        }
+        storeResponse(new TelegramResponse(statusCode, null, null));
+        try (Reader content = new InputStreamReader(response.body(), UTF_8)) {
+            return UpdatesStreamParser.parse(content, consumer);
+        }
+    }
+
     /**
      * Request to specify a URL and receive incoming updates via an outgoing webhook
      *
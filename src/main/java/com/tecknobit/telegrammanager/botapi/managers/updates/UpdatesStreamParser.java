@@ -0,0 +1,109 @@
+package com.tecknobit.telegrammanager.botapi.managers.updates;
+
+import com.tecknobit.telegrammanager.botapi.managers.updates.records.Update;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.function.Consumer;
+
+/**
+ * The {@code UpdatesStreamParser} class is useful to decode the response of a {@code "getUpdates"} request while it is
+ * read, each update is emitted as soon as it has been tokenized, so the whole response is never held as a single
+ * {@link String} or as a single JSON tree
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see UpdatesManager#getUpdates(com.tecknobit.telegrammanager.botapi.managers.TelegramManager.Params, Consumer)
+ */
+public final class UpdatesStreamParser {
+
+    /**
+     * {@code RESULT_KEY} the key of the updates in the response
+     */
+    private static final String RESULT_KEY = "result";
+
+    /**
+     * Constructor to init {@link UpdatesStreamParser} <br>
+     * No-any params required
+     *
+     * @apiNote this class cannot be instantiated
+     */
+    private UpdatesStreamParser() {
+    }
+
+    /**
+     * Method to decode a {@code "getUpdates"} response
+     *
+     * @param response: the reader of the response
+     * @param consumer: the consumer of the updates, it receives the updates in the same order they have been sent
+     * @return number of updates decoded as int
+     * @throws IOException when the response is not a valid {@code "getUpdates"} response or when {@code Telegram}
+     *                     answered with an error
+     */
+    public static int parse(Reader response, Consumer<Update> consumer) throws IOException {
+        JSONTokener tokener = new JSONTokener(response);
+        try {
+            if (tokener.nextClean() != '{')
+                throw tokener.syntaxError("A JSONObject text must begin with '{'");
+            boolean ok = true;
+            Object description = null;
+            int updates = 0;
+            char next = tokener.nextClean();
+            while (next != '}') {
+                tokener.back();
+                String key = tokener.nextValue().toString();
+                if (tokener.nextClean() != ':')
+                    throw tokener.syntaxError("Expected a ':' after a key");
+                if (key.equals(RESULT_KEY) && ok)
+                    updates = parseResult(tokener, consumer);
+                else {
+                    Object value = tokener.nextValue();
+                    if (key.equals("ok"))
+                        ok = Boolean.TRUE.equals(value);
+                    else if (key.equals("description"))
+                        description = value;
+                }
+                next = tokener.nextClean();
+                if (next == ',')
+                    next = tokener.nextClean();
+                else if (next != '}')
+                    throw tokener.syntaxError("Expected a ',' or '}'");
+            }
+            if (!ok)
+                throw new IOException(String.valueOf(description));
+            return updates;
+        } catch (JSONException e) {
+            if (e.getCause() instanceof IOException cause)
+                throw cause;
+            throw new IOException("Invalid getUpdates response", e);
+        }
+    }
+
+    /**
+     * Method to decode the {@code "result"} array of the response
+     *
+     * @param tokener:  the tokener positioned at the start of the array
+     * @param consumer: the consumer of the updates
+     * @return number of updates decoded as int
+     */
+    private static int parseResult(JSONTokener tokener, Consumer<Update> consumer) {
+        if (tokener.nextClean() != '[')
+            throw tokener.syntaxError("A JSONArray text must start with '['");
+        int updates = 0;
+        char next = tokener.nextClean();
+        while (next != ']') {
+            tokener.back();
+            consumer.accept(new Update(new JSONObject(tokener)));
+            updates++;
+            next = tokener.nextClean();
+            if (next == ',')
+                next = tokener.nextClean();
+            else if (next != ']')
+                throw tokener.syntaxError("Expected a ',' or ']'");
+        }
+        return updates;
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.tecknobit.telegrammanager.botapi.managers.updates;
+
+import com.tecknobit.telegrammanager.botapi.managers.updates.records.Update;
+
+/**
+ * The {@code WebhookHandler} interface is useful to handle the {@link Update} received by a {@link WebhookServer} and
+ * to reply to them directly in the response of the webhook
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see WebhookServer
+ * @see WebhookReply
+ */
+@FunctionalInterface
+public interface WebhookHandler {
+
+    /**
+     * Method to handle an update received by the webhook
+     *
+     * @param update: the update to handle
+     * @return the request to execute as reply to the update as {@link WebhookReply}, {@code "null"} to not reply
+     * @throws Exception when the handling of the update has been go wrong
+     */
+    WebhookReply onWebhookUpdate(Update update) throws Exception;
+
+}
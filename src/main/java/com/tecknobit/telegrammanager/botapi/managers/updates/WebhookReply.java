@@ -0,0 +1,119 @@
+package com.tecknobit.telegrammanager.botapi.managers.updates;
+
+import com.tecknobit.telegrammanager.botapi.managers.TelegramManager.Params;
+import com.tecknobit.telegrammanager.botapi.managers.requests.InputFile;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.util.Map;
+
+/**
+ * The {@code WebhookReply} class is useful to reply to an update directly in the response of the webhook, so the
+ * request is executed by {@code Telegram} without sending a new request
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote it is not possible to know whether the request has been successful or to get its result, and the files
+ * cannot be uploaded with this reply. See the official documentation at:
+ * <a href="https://core.telegram.org/bots/api#making-requests-when-getting-updates">
+ * Making requests when getting updates</a>
+ * @see WebhookHandler
+ */
+public class WebhookReply {
+
+    /**
+     * {@code methodName} the method of the request to execute
+     */
+    private final String methodName;
+
+    /**
+     * {@code params} params of the request to execute
+     */
+    private final Params params;
+
+    /**
+     * Constructor to init {@link WebhookReply}
+     *
+     * @param methodName: the method of the request to execute, for example {@code "sendMessage"}
+     * @param params:     params of the request to execute
+     */
+    public WebhookReply(String methodName, Params params) {
+        if (methodName == null || methodName.isEmpty())
+            throw new IllegalArgumentException("The method name cannot be empty");
+        this.methodName = methodName;
+        if (params == null)
+            params = new Params();
+        this.params = params;
+    }
+
+    /**
+     * Method to get {@link #methodName} instance <br>
+     * No-any params required
+     *
+     * @return {@link #methodName} instance as {@link String}
+     */
+    public String getMethodName() {
+        return methodName;
+    }
+
+    /**
+     * Method to get {@link #params} instance <br>
+     * No-any params required
+     *
+     * @return {@link #params} instance as {@link Params}
+     */
+    public Params getParams() {
+        return params;
+    }
+
+    /**
+     * Method to get the body of the response of the webhook <br>
+     * No-any params required
+     *
+     * @return body of the response as {@link JSONObject}
+     * @throws IllegalArgumentException when any param is an {@link InputFile}
+     */
+    public JSONObject toJSON() {
+        JSONObject reply = new JSONObject();
+        for (Map.Entry<String, Object> param : params.getParamValues().entrySet()) {
+            Object value = param.getValue();
+            if (value instanceof InputFile)
+                throw new IllegalArgumentException("The files cannot be uploaded replying to a webhook");
+            reply.put(param.getKey(), toJSONValue(value));
+        }
+        reply.put("method", methodName);
+        return reply;
+    }
+
+    /**
+     * Method to format the value of a param as JSON value
+     *
+     * @param value: the value to format
+     * @return value formatted as {@link Object}
+     */
+    private Object toJSONValue(Object value) {
+        if (value == null || value instanceof Number || value instanceof Boolean || value instanceof JSONObject
+                || value instanceof JSONArray)
+            return value;
+        String jValue = value.toString();
+        try {
+            if (jValue.startsWith("{"))
+                return new JSONObject(jValue);
+            if (jValue.startsWith("["))
+                return new JSONArray(jValue);
+        } catch (Exception ignored) {
+        }
+        return jValue;
+    }
+
+    /**
+     * Returns a string representation of the object <br>
+     * No-any params required
+     *
+     * @return a string representation of the object as {@link String}
+     */
+    @Override
+    public String toString() {
+        return toJSON().toString();
+    }
+
+}
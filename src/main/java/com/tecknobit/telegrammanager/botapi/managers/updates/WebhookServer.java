@@ -0,0 +1,309 @@
+package com.tecknobit.telegrammanager.botapi.managers.updates;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.tecknobit.telegrammanager.botapi.managers.TelegramExecutors;
+import com.tecknobit.telegrammanager.botapi.managers.updates.records.Update;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.security.MessageDigest;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The {@code WebhookServer} class is useful to receive the updates sent by {@code Telegram} to the webhook set with
+ * {@link UpdatesManager#setWebhook(String, com.tecknobit.telegrammanager.botapi.managers.TelegramManager.Params)}
+ * with an embedded {@code HTTP} server
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @apiNote the server can work in two ways:
+ * <ul>
+ *     <li>
+ *         with an {@link UpdatesHandler} -> the webhook is answered as soon as the update has been decoded and then
+ *         the update is handled, so {@code Telegram} can send the next updates without waiting the handling
+ *     </li>
+ *     <li>
+ *         with a {@link WebhookHandler}, see {@link #withInlineReplies(int, String, WebhookHandler)} -> the webhook
+ *         is answered when the update has been handled, so the {@link WebhookReply} returned by the handler can be
+ *         sent in the response of the webhook
+ *     </li>
+ * </ul>
+ * By default, on JDK 21+ each update is handled in a new virtual thread. The server does not terminate the {@code TLS}
+ * connections, so it must run behind a reverse proxy or {@code Telegram} must be configured with a self-signed
+ * certificate served by a proxy
+ * @see WebhookHandler
+ */
+public class WebhookServer implements AutoCloseable {
+
+    /**
+     * {@code SECRET_TOKEN_HEADER} the header which contains the secret token of the webhook
+     */
+    public static final String SECRET_TOKEN_HEADER = "X-Telegram-Bot-Api-Secret-Token";
+
+    /**
+     * {@code DEFAULT_PATH} default path where the updates are received
+     */
+    public static final String DEFAULT_PATH = "/";
+
+    /**
+     * {@code server} the server which receives the updates
+     */
+    private final HttpServer server;
+
+    /**
+     * {@code executor} the executor used to handle the updates
+     */
+    private final ExecutorService executor;
+
+    /**
+     * {@code ownExecutor} whether the {@link #executor} has been created by the server
+     */
+    private final boolean ownExecutor;
+
+    /**
+     * {@code secretToken} the secret token set for the webhook, can be {@code "null"}
+     */
+    private final byte[] secretToken;
+
+    /**
+     * {@code handler} the handler of the updates received
+     */
+    private final WebhookHandler handler;
+
+    /**
+     * {@code inlineReplies} whether the webhook is answered when the update has been handled
+     */
+    private final boolean inlineReplies;
+
+    /**
+     * {@code errorListener} the listener of the errors occurred during the handling of the updates
+     */
+    private volatile Consumer<Exception> errorListener;
+
+    /**
+     * Constructor to init {@link WebhookServer}
+     *
+     * @param port:        the port where the server listens
+     * @param secretToken: the secret token set for the webhook, can be {@code "null"}
+     * @param handler:     the handler of the updates received
+     * @throws IOException when the server cannot be bound to the port
+     */
+    public WebhookServer(int port, String secretToken, UpdatesHandler handler) throws IOException {
+        this(new InetSocketAddress(port), DEFAULT_PATH, secretToken, handler, null);
+    }
+
+    /**
+     * Constructor to init {@link WebhookServer}
+     *
+     * @param address:     the address where the server listens
+     * @param path:        the path where the updates are received
+     * @param secretToken: the secret token set for the webhook, can be {@code "null"}
+     * @param handler:     the handler of the updates received
+     * @param executor:    the executor used to handle the updates, if {@code "null"} will be created by the server
+     * @throws IOException when the server cannot be bound to the address
+     */
+    public WebhookServer(InetSocketAddress address, String path, String secretToken, UpdatesHandler handler,
+                         ExecutorService executor) throws IOException {
+        this(address, path, secretToken, update -> {
+            handler.onUpdate(update);
+            return null;
+        }, executor, false);
+    }
+
+    /**
+     * Constructor to init {@link WebhookServer}
+     *
+     * @param address:       the address where the server listens
+     * @param path:          the path where the updates are received
+     * @param secretToken:   the secret token set for the webhook, can be {@code "null"}
+     * @param handler:       the handler of the updates received
+     * @param executor:      the executor used to handle the updates, if {@code "null"} will be created by the server
+     * @param inlineReplies: whether the webhook is answered when the update has been handled
+     * @throws IOException when the server cannot be bound to the address
+     */
+    private WebhookServer(InetSocketAddress address, String path, String secretToken, WebhookHandler handler,
+                          ExecutorService executor, boolean inlineReplies) throws IOException {
+        if (handler == null)
+            throw new IllegalArgumentException("The handler cannot be null");
+        this.handler = handler;
+        this.inlineReplies = inlineReplies;
+        if (secretToken != null && !secretToken.isEmpty())
+            this.secretToken = secretToken.getBytes(UTF_8);
+        else
+            this.secretToken = null;
+        ownExecutor = executor == null;
+        if (ownExecutor)
+            executor = TelegramExecutors.newThreadPerTaskExecutor("telegram-webhook");
+        this.executor = executor;
+        errorListener = Throwable::printStackTrace;
+        server = HttpServer.create(address, 0);
+        server.createContext(path, this::receiveUpdate);
+        server.setExecutor(executor);
+    }
+
+    /**
+     * Method to create a server which answers the webhook with the reply to the update received
+     *
+     * @param port:        the port where the server listens
+     * @param secretToken: the secret token set for the webhook, can be {@code "null"}
+     * @param handler:     the handler of the updates received which can reply to them
+     * @return server as {@link WebhookServer}
+     * @throws IOException when the server cannot be bound to the port
+     */
+    public static WebhookServer withInlineReplies(int port, String secretToken,
+                                                  WebhookHandler handler) throws IOException {
+        return withInlineReplies(new InetSocketAddress(port), DEFAULT_PATH, secretToken, handler, null);
+    }
+
+    /**
+     * Method to create a server which answers the webhook with the reply to the update received
+     *
+     * @param address:     the address where the server listens
+     * @param path:        the path where the updates are received
+     * @param secretToken: the secret token set for the webhook, can be {@code "null"}
+     * @param handler:     the handler of the updates received which can reply to them
+     * @param executor:    the executor used to handle the updates, if {@code "null"} will be created by the server
+     * @return server as {@link WebhookServer}
+     * @throws IOException when the server cannot be bound to the address
+     */
+    public static WebhookServer withInlineReplies(InetSocketAddress address, String path, String secretToken,
+                                                  WebhookHandler handler, ExecutorService executor) throws IOException {
+        return new WebhookServer(address, path, secretToken, handler, executor, true);
+    }
+
+    /**
+     * Method to start the server <br>
+     * No-any params required
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Method to stop the server, the updates already received are handled before the server is stopped
+     *
+     * @param delay: the maximum time in seconds to wait until the updates already received have been handled
+     */
+    public void stop(int delay) {
+        server.stop(delay);
+        if (ownExecutor)
+            executor.shutdown();
+    }
+
+    /**
+     * Method to receive an update sent to the webhook
+     *
+     * @param exchange: the exchange of the request of the webhook
+     */
+    private void receiveUpdate(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestMethod().equals("POST")) {
+                sendResponse(exchange, 405, null);
+                return;
+            }
+            if (!isAuthorized(exchange.getRequestHeaders().getFirst(SECRET_TOKEN_HEADER))) {
+                sendResponse(exchange, 401, null);
+                return;
+            }
+            Update update;
+            try (InputStream body = exchange.getRequestBody()) {
+                update = new Update(new JSONObject(new JSONTokener(new InputStreamReader(body, UTF_8))));
+            } catch (Exception e) {
+                errorListener.accept(e);
+                sendResponse(exchange, 400, null);
+                return;
+            }
+            if (!inlineReplies) {
+                sendResponse(exchange, 200, null);
+                exchange.close();
+            }
+            WebhookReply reply = null;
+            try {
+                reply = handler.onWebhookUpdate(update);
+            } catch (Exception e) {
+                errorListener.accept(e);
+            }
+            if (inlineReplies) {
+                byte[] response = null;
+                if (reply != null) {
+                    try {
+                        response = reply.toString().getBytes(UTF_8);
+                    } catch (Exception e) {
+                        errorListener.accept(e);
+                    }
+                }
+                sendResponse(exchange, 200, response);
+            }
+        }
+    }
+
+    /**
+     * Method to check the secret token of a request of the webhook
+     *
+     * @param secretToken: the secret token sent with the request, can be {@code "null"}
+     * @return whether the request has been sent by {@code Telegram} as boolean
+     */
+    private boolean isAuthorized(String secretToken) {
+        if (this.secretToken == null)
+            return true;
+        if (secretToken == null)
+            return false;
+        return MessageDigest.isEqual(this.secretToken, secretToken.getBytes(UTF_8));
+    }
+
+    /**
+     * Method to send the response of a request of the webhook
+     *
+     * @param exchange:   the exchange of the request of the webhook
+     * @param statusCode: the status code of the response
+     * @param body:       the {@code JSON} body of the response, can be {@code "null"}
+     */
+    private void sendResponse(HttpExchange exchange, int statusCode, byte[] body) throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(statusCode, -1);
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(statusCode, body.length);
+        try (OutputStream response = exchange.getResponseBody()) {
+            response.write(body);
+        }
+    }
+
+    /**
+     * Method to get the address where the server listens <br>
+     * No-any params required
+     *
+     * @return address as {@link InetSocketAddress}
+     */
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    /**
+     * Method to set {@link #errorListener} instance
+     *
+     * @param errorListener: the listener of the errors occurred during the handling of the updates
+     */
+    public void setErrorListener(Consumer<Exception> errorListener) {
+        this.errorListener = errorListener;
+    }
+
+    /**
+     * Method to close the server, the updates already received are not waited <br>
+     * No-any params required
+     */
+    @Override
+    public void close() {
+        stop(0);
+    }
+
+}
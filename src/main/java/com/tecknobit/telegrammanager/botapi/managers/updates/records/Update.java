@@ -36,76 +36,76 @@ public class Update extends TelegramType {
     /**
      * {@code message} new incoming message of any kind - text, photo, sticker, etc
      */
-    private final Message message;
+    private volatile Message message;
 
     /**
      * {@code editedMessage} new version of a message that is known to the bot and was edited
      */
-    private final Message editedMessage;
+    private volatile Message editedMessage;
 
     /**
      * {@code channelPost} new incoming channel post of any kind - text, photo, sticker, etc
      */
-    private final Message channelPost;
+    private volatile Message channelPost;
 
     /**
      * {@code editeChannelPost} new version of a channel post that is known to the bot and was edited
      */
-    private final Message editeChannelPost;
+    private volatile Message editeChannelPost;
 
     /**
      * {@code inlineQuery} new incoming inline query
      */
-    private final InlineQuery inlineQuery;
+    private volatile InlineQuery inlineQuery;
 
     /**
      * {@code chosenInlineResult} the result of an inline query that was chosen by a user and sent to their chat partner
      */
-    private final ChosenInlineResult chosenInlineResult;
+    private volatile ChosenInlineResult chosenInlineResult;
 
     /**
      * {@code callbackQuery} new incoming callback query
      */
-    private final CallbackQuery callbackQuery;
+    private volatile CallbackQuery callbackQuery;
 
     /**
      * {@code shippingQuery} new incoming shipping query. Only for invoices with flexible price
      */
-    private final ShippingQuery shippingQuery;
+    private volatile ShippingQuery shippingQuery;
 
     /**
      * {@code preCheckoutQuery} new incoming pre-checkout query. Contains full information about checkout
      */
-    private final PreCheckoutQuery preCheckoutQuery;
+    private volatile PreCheckoutQuery preCheckoutQuery;
 
     /**
      * {@code poll} new poll state. Bots receive only updates about stopped polls and polls, which are sent by the bot
      */
-    private final Poll poll;
+    private volatile Poll poll;
 
     /**
      * {@code pollAnswer} a user changed their answer in a non-anonymous poll. Bots receive new votes only in polls that
      * were sent by the bot itself
      */
-    private final PollAnswer pollAnswer;
+    private volatile PollAnswer pollAnswer;
 
     /**
      * {@code myChatMember} the bot's chat member status was updated in a chat. For private chats, this update is received
      * only when the bot is blocked or unblocked by the user
      */
-    private final ChatMemberUpdated myChatMember;
+    private volatile ChatMemberUpdated myChatMember;
 
     /**
      * {@code chatMember} a chat member's status was updated in a chat. The bot must be an administrator in the chat and
      * must explicitly specify {@code "chat_member"} in the list of allowed_updates to receive these updates
      */
-    private final ChatMemberUpdated chatMember;
+    private volatile ChatMemberUpdated chatMember;
 
     /**
      * {@code chatJoinRequest} request to join the chat has been sent. The bot must have the {@code "can_invite_users"}
      * administrator right in the chat to receive these updates
      */
-    private final ChatJoinRequest chatJoinRequest;
+    private volatile ChatJoinRequest chatJoinRequest;
 
     /**
      * Constructor to init a {@link Update} object
@@ -163,20 +163,23 @@ public class Update extends TelegramType {
     public Update(JSONObject jUpdate) {
         super(jUpdate);
         updateId = hTelegram.getLong("update_id");
-        message = Message.getInstance(hTelegram.getJSONObject("message"));
-        editedMessage = Message.getInstance(hTelegram.getJSONObject("edited_message"));
-        channelPost = Message.getInstance(hTelegram.getJSONObject("channel_post"));
-        editeChannelPost = Message.getInstance(hTelegram.getJSONObject("edited_channel_post"));
-        inlineQuery = InlineQuery.getInstance(hTelegram.getJSONObject("inline_query"));
-        chosenInlineResult = ChosenInlineResult.getInstance(hTelegram.getJSONObject("chosen_inline_result"));
-        callbackQuery = CallbackQuery.getInstance(hTelegram.getJSONObject("callback_query"));
-        shippingQuery = ShippingQuery.getInstance(hTelegram.getJSONObject("shipping_query"));
-        preCheckoutQuery = PreCheckoutQuery.getInstance(hTelegram.getJSONObject("pre_checkout_query"));
-        poll = Poll.getInstance(hTelegram.getJSONObject("poll"));
-        pollAnswer = PollAnswer.getInstance(hTelegram.getJSONObject("poll_answer"));
-        myChatMember = ChatMemberUpdated.getInstance(hTelegram.getJSONObject("my_chat_member"));
-        chatMember = ChatMemberUpdated.getInstance(hTelegram.getJSONObject("chat_member"));
-        chatJoinRequest = ChatJoinRequest.getInstance(hTelegram.getJSONObject("chat_join_request"));
+        if (!lazyDecoding) {
+            message = Message.getInstance(hTelegram.getJSONObject("message"));
+            editedMessage = Message.getInstance(hTelegram.getJSONObject("edited_message"));
+            channelPost = Message.getInstance(hTelegram.getJSONObject("channel_post"));
+            editeChannelPost = Message.getInstance(hTelegram.getJSONObject("edited_channel_post"));
+            inlineQuery = InlineQuery.getInstance(hTelegram.getJSONObject("inline_query"));
+            chosenInlineResult = ChosenInlineResult.getInstance(hTelegram.getJSONObject("chosen_inline_result"));
+            callbackQuery = CallbackQuery.getInstance(hTelegram.getJSONObject("callback_query"));
+            shippingQuery = ShippingQuery.getInstance(hTelegram.getJSONObject("shipping_query"));
+            preCheckoutQuery = PreCheckoutQuery.getInstance(hTelegram.getJSONObject("pre_checkout_query"));
+            poll = Poll.getInstance(hTelegram.getJSONObject("poll"));
+            pollAnswer = PollAnswer.getInstance(hTelegram.getJSONObject("poll_answer"));
+            myChatMember = ChatMemberUpdated.getInstance(hTelegram.getJSONObject("my_chat_member"));
+            chatMember = ChatMemberUpdated.getInstance(hTelegram.getJSONObject("chat_member"));
+            chatJoinRequest = ChatJoinRequest.getInstance(hTelegram.getJSONObject("chat_join_request"));
+        }
+        releaseSourceIfRequired();
     }
 
     /**
@@ -196,6 +199,8 @@ public class Update extends TelegramType {
      * @return {@link #message} instance as {@link Message}
      */
     public Message getMessage() {
+        if (message == null && lazyDecoding)
+            message = Message.getInstance(hTelegram.getJSONObject("message"));
         return message;
     }
 
@@ -206,6 +211,8 @@ public class Update extends TelegramType {
      * @return {@link #editedMessage} instance as {@link Message}
      */
     public Message getEditedMessage() {
+        if (editedMessage == null && lazyDecoding)
+            editedMessage = Message.getInstance(hTelegram.getJSONObject("edited_message"));
         return editedMessage;
     }
 
@@ -216,6 +223,8 @@ public class Update extends TelegramType {
      * @return {@link #channelPost} instance as {@link Message}
      */
     public Message getChannelPost() {
+        if (channelPost == null && lazyDecoding)
+            channelPost = Message.getInstance(hTelegram.getJSONObject("channel_post"));
         return channelPost;
     }
 
@@ -226,6 +235,8 @@ public class Update extends TelegramType {
      * @return {@link #editeChannelPost} instance as {@link Message}
      */
     public Message getEditeChannelPost() {
+        if (editeChannelPost == null && lazyDecoding)
+            editeChannelPost = Message.getInstance(hTelegram.getJSONObject("edited_channel_post"));
         return editeChannelPost;
     }
 
@@ -236,6 +247,8 @@ public class Update extends TelegramType {
      * @return {@link #inlineQuery} instance as {@link InlineQuery}
      */
     public InlineQuery getInlineQuery() {
+        if (inlineQuery == null && lazyDecoding)
+            inlineQuery = InlineQuery.getInstance(hTelegram.getJSONObject("inline_query"));
         return inlineQuery;
     }
 
@@ -246,6 +259,8 @@ public class Update extends TelegramType {
      * @return {@link #chosenInlineResult} instance as {@link ChosenInlineResult}
      */
     public ChosenInlineResult getChosenInlineResult() {
+        if (chosenInlineResult == null && lazyDecoding)
+            chosenInlineResult = ChosenInlineResult.getInstance(hTelegram.getJSONObject("chosen_inline_result"));
         return chosenInlineResult;
     }
 
@@ -256,6 +271,8 @@ public class Update extends TelegramType {
      * @return {@link #callbackQuery} instance as {@link CallbackQuery}
      */
     public CallbackQuery getCallbackQuery() {
+        if (callbackQuery == null && lazyDecoding)
+            callbackQuery = CallbackQuery.getInstance(hTelegram.getJSONObject("callback_query"));
         return callbackQuery;
     }
 
@@ -266,6 +283,8 @@ public class Update extends TelegramType {
      * @return {@link #shippingQuery} instance as {@link ShippingQuery}
      */
     public ShippingQuery getShippingQuery() {
+        if (shippingQuery == null && lazyDecoding)
+            shippingQuery = ShippingQuery.getInstance(hTelegram.getJSONObject("shipping_query"));
         return shippingQuery;
     }
 
@@ -276,6 +295,8 @@ public class Update extends TelegramType {
      * @return {@link #preCheckoutQuery} instance as {@link PreCheckoutQuery}
      */
     public PreCheckoutQuery getPreCheckoutQuery() {
+        if (preCheckoutQuery == null && lazyDecoding)
+            preCheckoutQuery = PreCheckoutQuery.getInstance(hTelegram.getJSONObject("pre_checkout_query"));
         return preCheckoutQuery;
     }
 
@@ -286,6 +307,8 @@ public class Update extends TelegramType {
      * @return {@link #poll} instance as {@link Poll}
      */
     public Poll getPoll() {
+        if (poll == null && lazyDecoding)
+            poll = Poll.getInstance(hTelegram.getJSONObject("poll"));
         return poll;
     }
 
@@ -296,6 +319,8 @@ public class Update extends TelegramType {
      * @return {@link #pollAnswer} instance as {@link PollAnswer}
      */
     public PollAnswer getPollAnswer() {
+        if (pollAnswer == null && lazyDecoding)
+            pollAnswer = PollAnswer.getInstance(hTelegram.getJSONObject("poll_answer"));
         return pollAnswer;
     }
 
@@ -306,6 +331,8 @@ public class Update extends TelegramType {
      * @return {@link #myChatMember} instance as {@link ChatMemberUpdated}
      */
     public ChatMemberUpdated getMyChatMember() {
+        if (myChatMember == null && lazyDecoding)
+            myChatMember = ChatMemberUpdated.getInstance(hTelegram.getJSONObject("my_chat_member"));
         return myChatMember;
     }
 
@@ -316,6 +343,8 @@ public class Update extends TelegramType {
      * @return {@link #chatMember} instance as {@link ChatMemberUpdated}
      */
     public ChatMemberUpdated getChatMember() {
+        if (chatMember == null && lazyDecoding)
+            chatMember = ChatMemberUpdated.getInstance(hTelegram.getJSONObject("chat_member"));
         return chatMember;
     }
 
@@ -326,6 +355,8 @@ public class Update extends TelegramType {
      * @return {@link #chatJoinRequest} instance as {@link ChatJoinRequest}
      */
     public ChatJoinRequest getChatJoinRequest() {
+        if (chatJoinRequest == null && lazyDecoding)
+            chatJoinRequest = ChatJoinRequest.getInstance(hTelegram.getJSONObject("chat_join_request"));
         return chatJoinRequest;
     }
 
@@ -61,7 +61,7 @@ public class Message extends TelegramType {
      * {@code from} sender of the message; empty for messages sent to channels. For backward compatibility, the field
      * contains a fake sender user in non-channel chats, if the message was sent on behalf of a chat
      */
-    private final User from;
+    private volatile User from;
 
     /**
      * {@code senderChat} sender of the message, sent on behalf of a chat. For example, the channel itself for channel
@@ -69,7 +69,7 @@ public class Message extends TelegramType {
      * automatically forwarded to the discussion group. For backward compatibility, the field from contains a fake
      * sender user in non-channel chats, if the message was sent on behalf of a chat
      */
-    private final Chat senderChat;
+    private volatile Chat senderChat;
 
     /**
      * {@code date} date the message was sent in Unix time
@@ -79,18 +79,18 @@ public class Message extends TelegramType {
     /**
      * {@code chat} conversation the message belongs to
      */
-    private final Chat chat;
+    private volatile Chat chat;
 
     /**
      * {@code forwardFrom} for forwarded messages, sender of the original message
      */
-    private final User forwardFrom;
+    private volatile User forwardFrom;
 
     /**
      * {@code forwardFromChat} for messages forwarded from channels or from anonymous administrators, information about
      * the original sender chat
      */
-    private final Chat forwardFromChat;
+    private volatile Chat forwardFromChat;
 
     /**
      * {@code forwardFromMessageId} for messages forwarded from channels, identifier of the original message in the channel
@@ -129,12 +129,12 @@ public class Message extends TelegramType {
      * {@code replyToMessage} for replies, the original message. Note that the Message object in this field will not
      * contain further reply_to_message fields even if it itself is a reply.
      */
-    private final Message replyToMessage;
+    private volatile Message replyToMessage;
 
     /**
      * {@code viaBot} bot through which the message was sent
      */
-    private final User viaBot;
+    private volatile User viaBot;
 
     /**
      * {@code editDate} date the message was last edited in Unix time
@@ -166,53 +166,53 @@ public class Message extends TelegramType {
      * {@code entities} for text messages, special entities like usernames, URLs, bot commands, etc. that appear in the
      * text
      */
-    private final ArrayList<MessageEntity> entities;
+    private volatile ArrayList<MessageEntity> entities;
 
     /**
      * {@code animation} message is an animation, information about the animation. For backward compatibility, when this
      * field is set, the document field will also be set
      */
-    private final Video animation;
+    private volatile Video animation;
 
     /**
      * {@code audio} message is an audio file, information about the file
      */
-    private final Audio audio;
+    private volatile Audio audio;
 
     /**
      * {@code document} message is a general file, information about the file
      */
-    private final TelegramDocument document;
+    private volatile TelegramDocument document;
 
     /**
      * {@code photo} message is a photo, available sizes of the photo
      */
-    private final ArrayList<PhotoSize> photo;
+    private volatile ArrayList<PhotoSize> photo;
 
     /**
      * {@code sticker} message is a sticker, information about the sticker
      */
-    private final Sticker sticker;
+    private volatile Sticker sticker;
 
     /**
      * {@code story} message is a forwarded story
      */
-    private final Story story;
+    private volatile Story story;
 
     /**
      * {@code video} message is a video, information about the video
      */
-    private final Video video;
+    private volatile Video video;
 
     /**
      * {@code videoNote} message is a video note, information about the video message
      */
-    private final VideoNote videoNote;
+    private volatile VideoNote videoNote;
 
     /**
      * {@code voice} message is a voice message, information about the file
      */
-    private final Voice voice;
+    private volatile Voice voice;
 
     /**
      * {@code caption} caption for the animation, audio, document, photo, video or voice
@@ -223,7 +223,7 @@ public class Message extends TelegramType {
      * {@code captionEntities} for messages with a caption, special entities like usernames, URLs, bot commands, etc.
      * that appear in the caption
      */
-    private final ArrayList<MessageEntity> captionEntities;
+    private volatile ArrayList<MessageEntity> captionEntities;
 
     /**
      * {@code hasMediaSpoiler} if the message media is covered by a spoiler animation
@@ -233,44 +233,44 @@ public class Message extends TelegramType {
     /**
      * {@code contact} message is a shared contact, information about the contact
      */
-    private final Contact contact;
+    private volatile Contact contact;
 
     /**
      * {@code dice} message is a dice with random value
      */
-    private final Dice dice;
+    private volatile Dice dice;
 
     /**
      * {@code game} message is a game, information about the game
      */
-    private final Game game;
+    private volatile Game game;
 
     /**
      * {@code poll} message is a native poll, information about the poll
      */
-    private final Poll poll;
+    private volatile Poll poll;
 
     /**
      * {@code venue} message is a venue, information about the venue. For backward compatibility, when this field is set,
      * the location field will also be set
      */
-    private final Venue venue;
+    private volatile Venue venue;
 
     /**
      * {@code location} message is a shared location, information about the location
      */
-    private final Location location;
+    private volatile Location location;
 
     /**
      * {@code newChatMembers} new members that were added to the group or supergroup and information about them
      * (the bot itself may be one of these members)
      */
-    private final ArrayList<User> newChatMembers;
+    private volatile ArrayList<User> newChatMembers;
 
     /**
      * {@code leftChatMember} a member was removed from the group, information about them (this member may be the bot itself)
      */
-    private final User leftChatMember;
+    private volatile User leftChatMember;
 
     /**
      * {@code newChatTitle} a chat title was changed to this value
@@ -280,7 +280,7 @@ public class Message extends TelegramType {
     /**
      * {@code newChatPhoto} a chat photo was change to this value
      */
-    private final ArrayList<PhotoSize> newChatPhoto;
+    private volatile ArrayList<PhotoSize> newChatPhoto;
 
     /**
      * {@code deleteChatPhoto} service message: the chat photo was deleted
@@ -309,7 +309,7 @@ public class Message extends TelegramType {
     /**
      * {@code messageAutoDeleteTimerChanged} service message: auto-delete timer settings changed in the chat
      */
-    private final MessageAutoDeleteTimerChanged messageAutoDeleteTimerChanged;
+    private volatile MessageAutoDeleteTimerChanged messageAutoDeleteTimerChanged;
 
     /**
      * {@code migrateToChatId} the group has been migrated to a supergroup with the specified identifier. This number
@@ -331,27 +331,27 @@ public class Message extends TelegramType {
      * {@code pinnedMessage} specified message was pinned. Note that the Message object in this field will not contain
      * further reply_to_message fields even if it is itself a reply
      */
-    private final Message pinnedMessage;
+    private volatile Message pinnedMessage;
 
     /**
      * {@code invoice} message is an invoice for a payment, information about the invoice
      */
-    private final Invoice invoice;
+    private volatile Invoice invoice;
 
     /**
      * {@code successfulPayment} message is a service message about a successful payment, information about the payment
      */
-    private final SuccessfulPayment successfulPayment;
+    private volatile SuccessfulPayment successfulPayment;
 
     /**
      * {@code userShared} service message: a user was shared with the bot
      */
-    private final ItemShared userShared;
+    private volatile ItemShared userShared;
 
     /**
      * {@code chatShared} service message: a chat was shared with the bot
      */
-    private final ItemShared chatShared;
+    private volatile ItemShared chatShared;
 
     /**
      * {@code connectedWebsite} the domain name of the website on which the user has logged in
@@ -361,79 +361,79 @@ public class Message extends TelegramType {
     /**
      * {@code writeAccessAllowed} service message: the user allowed the bot added to the attachment menu to write messages
      */
-    private final WriteAccessAllowed writeAccessAllowed;
+    private volatile WriteAccessAllowed writeAccessAllowed;
 
     /**
      * {@code passportData} Telegram Passport data
      */
-    private final PassportData passportData;
+    private volatile PassportData passportData;
 
     /**
      * {@code proximityAlertTriggered} service message. A user in the chat triggered another user's proximity alert while
      * sharing Live Location
      */
-    private final ProximityAlertTriggered proximityAlertTriggered;
+    private volatile ProximityAlertTriggered proximityAlertTriggered;
 
     /**
      * {@code forumTopicCreated} service message: forum topic created
      */
-    private final ForumTopicCreated forumTopicCreated;
+    private volatile ForumTopicCreated forumTopicCreated;
 
     /**
      * {@code forumTopicEdited} service message: forum topic edited
      */
-    private final ForumTopicEdited forumTopicEdited;
+    private volatile ForumTopicEdited forumTopicEdited;
 
     /**
      * {@code forumTopicClosed} service message: forum topic closed
      */
-    private final ForumTopicClosed forumTopicClosed;
+    private volatile ForumTopicClosed forumTopicClosed;
 
     /**
      * {@code forumTopicReopened} service message: forum topic reopened
      */
-    private final ForumTopicReopened forumTopicReopened;
+    private volatile ForumTopicReopened forumTopicReopened;
 
     /**
      * {@code generalForumTopicHidden} service message: the 'General' forum topic hidden
      */
-    private final GeneralForumTopicHidden generalForumTopicHidden;
+    private volatile GeneralForumTopicHidden generalForumTopicHidden;
 
     /**
      * {@code generalForumTopicUnhidden} service message: the 'General' forum topic unhidden
      */
-    private final GeneralForumTopicUnhidden generalForumTopicUnhidden;
+    private volatile GeneralForumTopicUnhidden generalForumTopicUnhidden;
 
     /**
      * {@code videoChatScheduled} service message: video chat scheduled
      */
-    private final VideoChatScheduled videoChatScheduled;
+    private volatile VideoChatScheduled videoChatScheduled;
 
     /**
      * {@code videoChatStarted} service message: video chat started
      */
-    private final VideoChatStarted videoChatStarted;
+    private volatile VideoChatStarted videoChatStarted;
 
     /**
      * {@code videoChatEnded} service message: video chat ended
      */
-    private final VideoChatEnded videoChatEnded;
+    private volatile VideoChatEnded videoChatEnded;
 
     /**
      * {@code videoChatParticipantsInvited} service message: new participants invited to a video chat
      */
-    private final VideoChatParticipantsInvited videoChatParticipantsInvited;
+    private volatile VideoChatParticipantsInvited videoChatParticipantsInvited;
 
     /**
      * {@code webAppData} service message: data sent by a Web App
      */
-    private final WebAppData webAppData;
+    private volatile WebAppData webAppData;
 
     /**
      * {@code replyMarkup} inline keyboard attached to the message. login_url buttons are represented as ordinary
      * url buttons
      */
-    private final InlineKeyboardMarkup replyMarkup;
+    private volatile InlineKeyboardMarkup replyMarkup;
 
     /**
      * Constructor to init a {@link Message} object
@@ -644,81 +644,84 @@ public class Message extends TelegramType {
         super(jMessage);
         messageId = hTelegram.getLong("message_id", 0);
         messageThreadId = hTelegram.getLong("message_thread_id", 0);
-        from = User.getInstance(hTelegram.getJSONObject("from"));
-        senderChat = Chat.getInstance(hTelegram.getJSONObject("sender_chat"));
         date = hTelegram.getLong("date", -1);
-        chat = Chat.getInstance(hTelegram.getJSONObject("chat"));
-        forwardFrom = User.getInstance(hTelegram.getJSONObject("forward_from"));
-        forwardFromChat = Chat.getInstance(hTelegram.getJSONObject("forward_from_chat"));
         forwardFromMessageId = hTelegram.getLong("forward_from_message_id", 0);
         forwardSignature = hTelegram.getString("forward_signature");
         forwardSenderName = hTelegram.getString("forward_sender_name");
         forwardDate = hTelegram.getLong("forward_date", 0);
         isTopicMessage = hTelegram.getBoolean("is_topic_message");
         isAutomaticForward = hTelegram.getBoolean("is_automatic_forward");
-        replyToMessage = Message.getInstance(hTelegram.getJSONObject("reply_to_message"));
-        viaBot = User.getInstance(hTelegram.getJSONObject("via_bot"));
         editDate = hTelegram.getLong("edit_date", 0);
         hasProtectedContent = hTelegram.getBoolean("has_protected_content");
         mediaGroupId = hTelegram.getString("media_group_id");
         authorSignature = hTelegram.getString("author_signature");
         text = hTelegram.getString("text");
-        entities = MessageEntity.returnMessageEntities(hTelegram.getJSONArray("entities"));
-        animation = Video.getInstance(hTelegram.getJSONObject("animation"));
-        audio = Audio.getInstance(hTelegram.getJSONObject("audio"));
-        document = TelegramDocument.getInstance(hTelegram.getJSONObject("document"));
-        photo = PhotoSize.returnPhotoSizes(hTelegram.getJSONArray("photo"));
-        sticker = Sticker.getInstance(hTelegram.getJSONObject("sticker"));
-        story = Story.getInstance(hTelegram.getJSONObject("story"));
-        video = Video.getInstance(hTelegram.getJSONObject("video"));
-        videoNote = VideoNote.getInstance(hTelegram.getJSONObject("video_note"));
-        voice = Voice.getInstance(hTelegram.getJSONObject("voice"));
         caption = hTelegram.getString("caption");
-        captionEntities = MessageEntity.returnMessageEntities(hTelegram.getJSONArray("caption_entities"));
         hasMediaSpoiler = hTelegram.getBoolean("has_media_spoiler");
-        contact = Contact.getInstance(hTelegram.getJSONObject("contact"));
-        dice = Dice.getInstance(hTelegram.getJSONObject("dice"));
-        game = Game.getInstance(hTelegram.getJSONObject("game"));
-        poll = Poll.getInstance(hTelegram.getJSONObject("poll"));
-        venue = Venue.getInstance(hTelegram.getJSONObject("venue"));
-        location = Location.getInstance(hTelegram.getJSONObject("location"));
-        newChatMembers = User.returnUsers(hTelegram.getJSONArray("new_chat_members"));
-        leftChatMember = User.getInstance(hTelegram.getJSONObject("left_chat_member"));
         newChatTitle = hTelegram.getString("new_chat_title");
-        newChatPhoto = PhotoSize.returnPhotoSizes(hTelegram.getJSONArray("new_chat_photo"));
         deleteChatPhoto = hTelegram.getBoolean("delete_chat_photo");
         groupChatCreated = hTelegram.getBoolean("group_chat_created");
         supergroupChatCreated = hTelegram.getBoolean("supergroup_chat_created");
         channelChatCreated = hTelegram.getBoolean("channel_chat_created");
-        messageAutoDeleteTimerChanged = MessageAutoDeleteTimerChanged
-                .getInstance(hTelegram.getJSONObject("message_auto_delete_timer_changed"));
         migrateToChatId = hTelegram.getLong("migrate_to_chat_id", 0);
         migrateFromChatId = hTelegram.getLong("migrate_from_chat_id", 0);
-        pinnedMessage = Message.getInstance(hTelegram.getJSONObject("pinned_message"));
-        invoice = Invoice.getInstance(hTelegram.getJSONObject("invoice"));
-        successfulPayment = SuccessfulPayment.getInstance(hTelegram.getJSONObject("successful_payment"));
-        userShared = ItemShared.getInstance(hTelegram.getJSONObject("user_shared"));
-        chatShared = ItemShared.getInstance(hTelegram.getJSONObject("chat_shared"));
         connectedWebsite = hTelegram.getString("connected_website");
-        writeAccessAllowed = WriteAccessAllowed.getInstance(hTelegram.getJSONObject("write_access_allowed"));
-        passportData = PassportData.getInstance(hTelegram.getJSONObject("passport_data"));
-        proximityAlertTriggered = ProximityAlertTriggered
-                .getInstance(hTelegram.getJSONObject("proximity_alert_triggered"));
-        forumTopicCreated = ForumTopicCreated.getInstance(hTelegram.getJSONObject("forum_topic_created"));
-        forumTopicEdited = ForumTopicEdited.getInstance(hTelegram.getJSONObject("forum_topic_edited"));
-        forumTopicClosed = ForumTopicClosed.getInstance(hTelegram.getJSONObject("forum_topic_closed"));
-        forumTopicReopened = ForumTopicReopened.getInstance(hTelegram.getJSONObject("forum_topic_reopened"));
-        generalForumTopicHidden = GeneralForumTopicHidden
-                .getInstance(hTelegram.getJSONObject("general_forum_topic_hidden"));
-        generalForumTopicUnhidden = GeneralForumTopicUnhidden
-                .getInstance(hTelegram.getJSONObject("general_forum_topic_unhidden"));
-        videoChatScheduled = VideoChatScheduled.getInstance(hTelegram.getJSONObject("video_chat_scheduled"));
-        videoChatStarted = VideoChatStarted.getInstance(hTelegram.getJSONObject("video_chat_started"));
-        videoChatEnded = VideoChatEnded.getInstance(hTelegram.getJSONObject("video_chat_ended"));
-        videoChatParticipantsInvited = VideoChatParticipantsInvited
-                .getInstance(hTelegram.getJSONObject("video_chat_participants_invited"));
-        webAppData = WebAppData.getInstance(hTelegram.getJSONObject("web_app_data"));
-        replyMarkup = InlineKeyboardMarkup.getInstance(hTelegram.getJSONObject("reply_markup"));
+        if (!lazyDecoding) {
+            from = User.getInstance(hTelegram.getJSONObject("from"));
+            senderChat = Chat.getInstance(hTelegram.getJSONObject("sender_chat"));
+            chat = Chat.getInstance(hTelegram.getJSONObject("chat"));
+            forwardFrom = User.getInstance(hTelegram.getJSONObject("forward_from"));
+            forwardFromChat = Chat.getInstance(hTelegram.getJSONObject("forward_from_chat"));
+            replyToMessage = Message.getInstance(hTelegram.getJSONObject("reply_to_message"));
+            viaBot = User.getInstance(hTelegram.getJSONObject("via_bot"));
+            entities = MessageEntity.returnMessageEntities(hTelegram.getJSONArray("entities"));
+            animation = Video.getInstance(hTelegram.getJSONObject("animation"));
+            audio = Audio.getInstance(hTelegram.getJSONObject("audio"));
+            document = TelegramDocument.getInstance(hTelegram.getJSONObject("document"));
+            photo = PhotoSize.returnPhotoSizes(hTelegram.getJSONArray("photo"));
+            sticker = Sticker.getInstance(hTelegram.getJSONObject("sticker"));
+            story = Story.getInstance(hTelegram.getJSONObject("story"));
+            video = Video.getInstance(hTelegram.getJSONObject("video"));
+            videoNote = VideoNote.getInstance(hTelegram.getJSONObject("video_note"));
+            voice = Voice.getInstance(hTelegram.getJSONObject("voice"));
+            captionEntities = MessageEntity.returnMessageEntities(hTelegram.getJSONArray("caption_entities"));
+            contact = Contact.getInstance(hTelegram.getJSONObject("contact"));
+            dice = Dice.getInstance(hTelegram.getJSONObject("dice"));
+            game = Game.getInstance(hTelegram.getJSONObject("game"));
+            poll = Poll.getInstance(hTelegram.getJSONObject("poll"));
+            venue = Venue.getInstance(hTelegram.getJSONObject("venue"));
+            location = Location.getInstance(hTelegram.getJSONObject("location"));
+            newChatMembers = User.returnUsers(hTelegram.getJSONArray("new_chat_members"));
+            leftChatMember = User.getInstance(hTelegram.getJSONObject("left_chat_member"));
+            newChatPhoto = PhotoSize.returnPhotoSizes(hTelegram.getJSONArray("new_chat_photo"));
+            messageAutoDeleteTimerChanged = MessageAutoDeleteTimerChanged
+                    .getInstance(hTelegram.getJSONObject("message_auto_delete_timer_changed"));
+            pinnedMessage = Message.getInstance(hTelegram.getJSONObject("pinned_message"));
+            invoice = Invoice.getInstance(hTelegram.getJSONObject("invoice"));
+            successfulPayment = SuccessfulPayment.getInstance(hTelegram.getJSONObject("successful_payment"));
+            userShared = ItemShared.getInstance(hTelegram.getJSONObject("user_shared"));
+            chatShared = ItemShared.getInstance(hTelegram.getJSONObject("chat_shared"));
+            writeAccessAllowed = WriteAccessAllowed.getInstance(hTelegram.getJSONObject("write_access_allowed"));
+            passportData = PassportData.getInstance(hTelegram.getJSONObject("passport_data"));
+            proximityAlertTriggered = ProximityAlertTriggered
+                    .getInstance(hTelegram.getJSONObject("proximity_alert_triggered"));
+            forumTopicCreated = ForumTopicCreated.getInstance(hTelegram.getJSONObject("forum_topic_created"));
+            forumTopicEdited = ForumTopicEdited.getInstance(hTelegram.getJSONObject("forum_topic_edited"));
+            forumTopicClosed = ForumTopicClosed.getInstance(hTelegram.getJSONObject("forum_topic_closed"));
+            forumTopicReopened = ForumTopicReopened.getInstance(hTelegram.getJSONObject("forum_topic_reopened"));
+            generalForumTopicHidden = GeneralForumTopicHidden
+                    .getInstance(hTelegram.getJSONObject("general_forum_topic_hidden"));
+            generalForumTopicUnhidden = GeneralForumTopicUnhidden
+                    .getInstance(hTelegram.getJSONObject("general_forum_topic_unhidden"));
+            videoChatScheduled = VideoChatScheduled.getInstance(hTelegram.getJSONObject("video_chat_scheduled"));
+            videoChatStarted = VideoChatStarted.getInstance(hTelegram.getJSONObject("video_chat_started"));
+            videoChatEnded = VideoChatEnded.getInstance(hTelegram.getJSONObject("video_chat_ended"));
+            videoChatParticipantsInvited = VideoChatParticipantsInvited
+                    .getInstance(hTelegram.getJSONObject("video_chat_participants_invited"));
+            webAppData = WebAppData.getInstance(hTelegram.getJSONObject("web_app_data"));
+            replyMarkup = InlineKeyboardMarkup.getInstance(hTelegram.getJSONObject("reply_markup"));
+        }
+        releaseSourceIfRequired();
     }
 
     /**
@@ -748,6 +751,8 @@ public class Message extends TelegramType {
      * @return {@link #from} instance as {@link User}
      */
     public User getFrom() {
+        if (from == null && lazyDecoding)
+            from = User.getInstance(hTelegram.getJSONObject("from"));
         return from;
     }
 
@@ -758,6 +763,8 @@ public class Message extends TelegramType {
      * @return {@link #senderChat} instance as {@link Chat}
      */
     public Chat getSenderChat() {
+        if (senderChat == null && lazyDecoding)
+            senderChat = Chat.getInstance(hTelegram.getJSONObject("sender_chat"));
         return senderChat;
     }
 
@@ -788,6 +795,8 @@ public class Message extends TelegramType {
      * @return {@link #chat} instance as {@link Chat}
      */
     public Chat getChat() {
+        if (chat == null && lazyDecoding)
+            chat = Chat.getInstance(hTelegram.getJSONObject("chat"));
         return chat;
     }
 
@@ -798,6 +807,8 @@ public class Message extends TelegramType {
      * @return {@link #forwardFrom} instance as {@link User}
      */
     public User getForwardFrom() {
+        if (forwardFrom == null && lazyDecoding)
+            forwardFrom = User.getInstance(hTelegram.getJSONObject("forward_from"));
         return forwardFrom;
     }
 
@@ -808,6 +819,8 @@ public class Message extends TelegramType {
      * @return {@link #forwardFromChat} instance as {@link Chat}
      */
     public Chat getForwardFromChat() {
+        if (forwardFromChat == null && lazyDecoding)
+            forwardFromChat = Chat.getInstance(hTelegram.getJSONObject("forward_from_chat"));
         return forwardFromChat;
     }
 
@@ -888,6 +901,8 @@ public class Message extends TelegramType {
      * @return {@link #replyToMessage} instance as {@link Message}
      */
     public Message getReplyToMessage() {
+        if (replyToMessage == null && lazyDecoding)
+            replyToMessage = Message.getInstance(hTelegram.getJSONObject("reply_to_message"));
         return replyToMessage;
     }
 
@@ -898,6 +913,8 @@ public class Message extends TelegramType {
      * @return {@link #viaBot} instance as {@link User}
      */
     public User getViaBot() {
+        if (viaBot == null && lazyDecoding)
+            viaBot = User.getInstance(hTelegram.getJSONObject("via_bot"));
         return viaBot;
     }
 
@@ -968,6 +985,8 @@ public class Message extends TelegramType {
      * @return {@link #entities} instance as {@link ArrayList} of {@link MessageEntity}
      */
     public ArrayList<MessageEntity> getEntities() {
+        if (entities == null && lazyDecoding)
+            entities = MessageEntity.returnMessageEntities(hTelegram.getJSONArray("entities"));
         return entities;
     }
 
@@ -978,6 +997,8 @@ public class Message extends TelegramType {
      * @return {@link #animation} instance as {@link Video}
      */
     public Video getAnimation() {
+        if (animation == null && lazyDecoding)
+            animation = Video.getInstance(hTelegram.getJSONObject("animation"));
         return animation;
     }
 
@@ -988,6 +1009,8 @@ public class Message extends TelegramType {
      * @return {@link #audio} instance as {@link Audio}
      */
     public Audio getAudio() {
+        if (audio == null && lazyDecoding)
+            audio = Audio.getInstance(hTelegram.getJSONObject("audio"));
         return audio;
     }
 
@@ -998,6 +1021,8 @@ public class Message extends TelegramType {
      * @return {@link #document} instance as {@link TelegramDocument}
      */
     public TelegramDocument getDocument() {
+        if (document == null && lazyDecoding)
+            document = TelegramDocument.getInstance(hTelegram.getJSONObject("document"));
         return document;
     }
 
@@ -1008,6 +1033,8 @@ public class Message extends TelegramType {
      * @return {@link #photo} instance as {@link ArrayList} of {@link PhotoSize}
      */
     public ArrayList<PhotoSize> getPhoto() {
+        if (photo == null && lazyDecoding)
+            photo = PhotoSize.returnPhotoSizes(hTelegram.getJSONArray("photo"));
         return photo;
     }
 
@@ -1018,6 +1045,8 @@ public class Message extends TelegramType {
      * @return {@link #sticker} instance as {@link Sticker}
      */
     public Sticker getSticker() {
+        if (sticker == null && lazyDecoding)
+            sticker = Sticker.getInstance(hTelegram.getJSONObject("sticker"));
         return sticker;
     }
 
@@ -1028,6 +1057,8 @@ public class Message extends TelegramType {
      * @return {@link #story} instance as {@link Story}
      */
     public Story getStory() {
+        if (story == null && lazyDecoding)
+            story = Story.getInstance(hTelegram.getJSONObject("story"));
         return story;
     }
 
@@ -1038,6 +1069,8 @@ public class Message extends TelegramType {
      * @return {@link #video} instance as {@link Video}
      */
     public Video getVideo() {
+        if (video == null && lazyDecoding)
+            video = Video.getInstance(hTelegram.getJSONObject("video"));
         return video;
     }
 
@@ -1048,6 +1081,8 @@ public class Message extends TelegramType {
      * @return {@link #videoNote} instance as {@link VideoNote}
      */
     public VideoNote getVideoNote() {
+        if (videoNote == null && lazyDecoding)
+            videoNote = VideoNote.getInstance(hTelegram.getJSONObject("video_note"));
         return videoNote;
     }
 
@@ -1058,6 +1093,8 @@ public class Message extends TelegramType {
      * @return {@link #voice} instance as {@link Voice}
      */
     public Voice getVoice() {
+        if (voice == null && lazyDecoding)
+            voice = Voice.getInstance(hTelegram.getJSONObject("voice"));
         return voice;
     }
 
@@ -1078,6 +1115,8 @@ public class Message extends TelegramType {
      * @return {@link #captionEntities} instance as {@link ArrayList} of {@link MessageEntity}
      */
     public ArrayList<MessageEntity> getCaptionEntities() {
+        if (captionEntities == null && lazyDecoding)
+            captionEntities = MessageEntity.returnMessageEntities(hTelegram.getJSONArray("caption_entities"));
         return captionEntities;
     }
 
@@ -1098,6 +1137,8 @@ public class Message extends TelegramType {
      * @return {@link #contact} instance as {@link Contact}
      */
     public Contact getContact() {
+        if (contact == null && lazyDecoding)
+            contact = Contact.getInstance(hTelegram.getJSONObject("contact"));
         return contact;
     }
 
@@ -1108,6 +1149,8 @@ public class Message extends TelegramType {
      * @return {@link #dice} instance as {@link Dice}
      */
     public Dice getDice() {
+        if (dice == null && lazyDecoding)
+            dice = Dice.getInstance(hTelegram.getJSONObject("dice"));
         return dice;
     }
 
@@ -1118,6 +1161,8 @@ public class Message extends TelegramType {
      * @return {@link #game} instance as {@link Game}
      */
     public Game getGame() {
+        if (game == null && lazyDecoding)
+            game = Game.getInstance(hTelegram.getJSONObject("game"));
         return game;
     }
 
@@ -1128,6 +1173,8 @@ public class Message extends TelegramType {
      * @return {@link #poll} instance as {@link Poll}
      */
     public Poll getPoll() {
+        if (poll == null && lazyDecoding)
+            poll = Poll.getInstance(hTelegram.getJSONObject("poll"));
         return poll;
     }
 
@@ -1138,6 +1185,8 @@ public class Message extends TelegramType {
      * @return {@link #venue} instance as {@link Venue}
      */
     public Venue getVenue() {
+        if (venue == null && lazyDecoding)
+            venue = Venue.getInstance(hTelegram.getJSONObject("venue"));
         return venue;
     }
 
@@ -1148,6 +1197,8 @@ public class Message extends TelegramType {
      * @return {@link #location} instance as {@link Location}
      */
     public Location getLocation() {
+        if (location == null && lazyDecoding)
+            location = Location.getInstance(hTelegram.getJSONObject("location"));
         return location;
     }
 
@@ -1158,6 +1209,8 @@ public class Message extends TelegramType {
      * @return {@link #newChatMembers} instance as {@link ArrayList} of {@link User}
      */
     public ArrayList<User> getNewChatMembers() {
+        if (newChatMembers == null && lazyDecoding)
+            newChatMembers = User.returnUsers(hTelegram.getJSONArray("new_chat_members"));
         return newChatMembers;
     }
 
@@ -1168,6 +1221,8 @@ public class Message extends TelegramType {
      * @return {@link #leftChatMember} instance as {@link User}
      */
     public User getLeftChatMember() {
+        if (leftChatMember == null && lazyDecoding)
+            leftChatMember = User.getInstance(hTelegram.getJSONObject("left_chat_member"));
         return leftChatMember;
     }
 
@@ -1188,6 +1243,8 @@ public class Message extends TelegramType {
      * @return {@link #newChatPhoto} instance as {@link ArrayList} of {@link PhotoSize}
      */
     public ArrayList<PhotoSize> getNewChatPhoto() {
+        if (newChatPhoto == null && lazyDecoding)
+            newChatPhoto = PhotoSize.returnPhotoSizes(hTelegram.getJSONArray("new_chat_photo"));
         return newChatPhoto;
     }
 
@@ -1228,6 +1285,9 @@ public class Message extends TelegramType {
      * @return {@link #messageAutoDeleteTimerChanged} instance as {@link MessageAutoDeleteTimerChanged}
      */
     public MessageAutoDeleteTimerChanged getMessageAutoDeleteTimerChanged() {
+        if (messageAutoDeleteTimerChanged == null && lazyDecoding)
+            messageAutoDeleteTimerChanged = MessageAutoDeleteTimerChanged
+                    .getInstance(hTelegram.getJSONObject("message_auto_delete_timer_changed"));
         return messageAutoDeleteTimerChanged;
     }
 
@@ -1258,6 +1318,8 @@ public class Message extends TelegramType {
      * @return {@link #pinnedMessage} instance as {@link Message}
      */
     public Message getPinnedMessage() {
+        if (pinnedMessage == null && lazyDecoding)
+            pinnedMessage = Message.getInstance(hTelegram.getJSONObject("pinned_message"));
         return pinnedMessage;
     }
 
@@ -1268,6 +1330,8 @@ public class Message extends TelegramType {
      * @return {@link #invoice} instance as {@link Invoice}
      */
     public Invoice getInvoice() {
+        if (invoice == null && lazyDecoding)
+            invoice = Invoice.getInstance(hTelegram.getJSONObject("invoice"));
         return invoice;
     }
 
@@ -1278,6 +1342,8 @@ public class Message extends TelegramType {
      * @return {@link #successfulPayment} instance as {@link SuccessfulPayment}
      */
     public SuccessfulPayment getSuccessfulPayment() {
+        if (successfulPayment == null && lazyDecoding)
+            successfulPayment = SuccessfulPayment.getInstance(hTelegram.getJSONObject("successful_payment"));
         return successfulPayment;
     }
 
@@ -1288,6 +1354,8 @@ public class Message extends TelegramType {
      * @return {@link #userShared} instance as {@link ItemShared}
      */
     public ItemShared getUserShared() {
+        if (userShared == null && lazyDecoding)
+            userShared = ItemShared.getInstance(hTelegram.getJSONObject("user_shared"));
         return userShared;
     }
 
@@ -1298,6 +1366,8 @@ public class Message extends TelegramType {
      * @return {@link #chatShared} instance as {@link ItemShared}
      */
     public ItemShared getChatShared() {
+        if (chatShared == null && lazyDecoding)
+            chatShared = ItemShared.getInstance(hTelegram.getJSONObject("chat_shared"));
         return chatShared;
     }
 
@@ -1318,6 +1388,8 @@ public class Message extends TelegramType {
      * @return {@link #writeAccessAllowed} instance as {@link WriteAccessAllowed}
      */
     public WriteAccessAllowed getWriteAccessAllowed() {
+        if (writeAccessAllowed == null && lazyDecoding)
+            writeAccessAllowed = WriteAccessAllowed.getInstance(hTelegram.getJSONObject("write_access_allowed"));
         return writeAccessAllowed;
     }
 
@@ -1328,6 +1400,8 @@ public class Message extends TelegramType {
      * @return {@link #passportData} instance as {@link PassportData}
      */
     public PassportData getPassportData() {
+        if (passportData == null && lazyDecoding)
+            passportData = PassportData.getInstance(hTelegram.getJSONObject("passport_data"));
         return passportData;
     }
 
@@ -1338,6 +1412,9 @@ public class Message extends TelegramType {
      * @return {@link #proximityAlertTriggered} instance as {@link ProximityAlertTriggered}
      */
     public ProximityAlertTriggered getProximityAlertTriggered() {
+        if (proximityAlertTriggered == null && lazyDecoding)
+            proximityAlertTriggered = ProximityAlertTriggered
+                    .getInstance(hTelegram.getJSONObject("proximity_alert_triggered"));
         return proximityAlertTriggered;
     }
 
@@ -1348,6 +1425,8 @@ public class Message extends TelegramType {
      * @return {@link #forumTopicCreated} instance as {@link ForumTopicCreated}
      */
     public ForumTopicCreated getForumTopicCreated() {
+        if (forumTopicCreated == null && lazyDecoding)
+            forumTopicCreated = ForumTopicCreated.getInstance(hTelegram.getJSONObject("forum_topic_created"));
         return forumTopicCreated;
     }
 
@@ -1358,6 +1437,8 @@ public class Message extends TelegramType {
      * @return {@link #forumTopicEdited} instance as {@link ForumTopicEdited}
      */
     public ForumTopicEdited getForumTopicEdited() {
+        if (forumTopicEdited == null && lazyDecoding)
+            forumTopicEdited = ForumTopicEdited.getInstance(hTelegram.getJSONObject("forum_topic_edited"));
         return forumTopicEdited;
     }
 
@@ -1368,6 +1449,8 @@ public class Message extends TelegramType {
      * @return {@link #forumTopicClosed} instance as {@link ForumTopicClosed}
      */
     public ForumTopicClosed getForumTopicClosed() {
+        if (forumTopicClosed == null && lazyDecoding)
+            forumTopicClosed = ForumTopicClosed.getInstance(hTelegram.getJSONObject("forum_topic_closed"));
         return forumTopicClosed;
     }
 
@@ -1378,6 +1461,8 @@ public class Message extends TelegramType {
      * @return {@link #forumTopicReopened} instance as {@link ForumTopicReopened}
      */
     public ForumTopicReopened getForumTopicReopened() {
+        if (forumTopicReopened == null && lazyDecoding)
+            forumTopicReopened = ForumTopicReopened.getInstance(hTelegram.getJSONObject("forum_topic_reopened"));
         return forumTopicReopened;
     }
 
@@ -1388,6 +1473,9 @@ public class Message extends TelegramType {
      * @return {@link #generalForumTopicHidden} instance as {@link GeneralForumTopicHidden}
      */
     public GeneralForumTopicHidden getGeneralForumTopicHidden() {
+        if (generalForumTopicHidden == null && lazyDecoding)
+            generalForumTopicHidden = GeneralForumTopicHidden
+                    .getInstance(hTelegram.getJSONObject("general_forum_topic_hidden"));
         return generalForumTopicHidden;
     }
 
@@ -1398,6 +1486,9 @@ public class Message extends TelegramType {
      * @return {@link #generalForumTopicUnhidden} instance as {@link GeneralForumTopicUnhidden}
      */
     public GeneralForumTopicUnhidden getGeneralForumTopicUnhidden() {
+        if (generalForumTopicUnhidden == null && lazyDecoding)
+            generalForumTopicUnhidden = GeneralForumTopicUnhidden
+                    .getInstance(hTelegram.getJSONObject("general_forum_topic_unhidden"));
         return generalForumTopicUnhidden;
     }
 
@@ -1408,6 +1499,8 @@ public class Message extends TelegramType {
      * @return {@link #videoChatScheduled} instance as {@link VideoChatScheduled}
      */
     public VideoChatScheduled getVideoChatScheduled() {
+        if (videoChatScheduled == null && lazyDecoding)
+            videoChatScheduled = VideoChatScheduled.getInstance(hTelegram.getJSONObject("video_chat_scheduled"));
         return videoChatScheduled;
     }
 
@@ -1418,6 +1511,8 @@ public class Message extends TelegramType {
      * @return {@link #videoChatStarted} instance as {@link VideoChatStarted}
      */
     public VideoChatStarted getVideoChatStarted() {
+        if (videoChatStarted == null && lazyDecoding)
+            videoChatStarted = VideoChatStarted.getInstance(hTelegram.getJSONObject("video_chat_started"));
         return videoChatStarted;
     }
 
@@ -1428,6 +1523,8 @@ public class Message extends TelegramType {
      * @return {@link #videoChatEnded} instance as {@link VideoChatEnded}
      */
     public VideoChatEnded getVideoChatEnded() {
+        if (videoChatEnded == null && lazyDecoding)
+            videoChatEnded = VideoChatEnded.getInstance(hTelegram.getJSONObject("video_chat_ended"));
         return videoChatEnded;
     }
 
@@ -1438,6 +1535,9 @@ public class Message extends TelegramType {
      * @return {@link #videoChatParticipantsInvited} instance as {@link VideoChatParticipantsInvited}
      */
     public VideoChatParticipantsInvited getVideoChatParticipantsInvited() {
+        if (videoChatParticipantsInvited == null && lazyDecoding)
+            videoChatParticipantsInvited = VideoChatParticipantsInvited
+                    .getInstance(hTelegram.getJSONObject("video_chat_participants_invited"));
         return videoChatParticipantsInvited;
     }
 
@@ -1448,6 +1548,8 @@ public class Message extends TelegramType {
      * @return {@link #webAppData} instance as {@link WebAppData}
      */
     public WebAppData getWebAppData() {
+        if (webAppData == null && lazyDecoding)
+            webAppData = WebAppData.getInstance(hTelegram.getJSONObject("web_app_data"));
         return webAppData;
     }
 
@@ -1458,6 +1560,8 @@ public class Message extends TelegramType {
      * @return {@link #replyMarkup} instance as {@link InlineKeyboardMarkup}
      */
     public InlineKeyboardMarkup getReplyMarkup() {
+        if (replyMarkup == null && lazyDecoding)
+            replyMarkup = InlineKeyboardMarkup.getInstance(hTelegram.getJSONObject("reply_markup"));
         return replyMarkup;
     }
 
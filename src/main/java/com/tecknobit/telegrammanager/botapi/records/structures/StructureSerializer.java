@@ -0,0 +1,188 @@
+package com.tecknobit.telegrammanager.botapi.records.structures;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The {@code StructureSerializer} class is useful to serialize a {@link TelegramTypeStructure} in its snake-case JSON
+ * format. The fields to serialize and their names are resolved only once for each class, then the values are written
+ * directly without building an intermediate JSON tree
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see TelegramTypeStructure#toString()
+ */
+final class StructureSerializer {
+
+    /**
+     * {@code SERIALIZERS} the serializers already created for each class
+     */
+    private static final ClassValue<StructureSerializer> SERIALIZERS = new ClassValue<>() {
+        @Override
+        protected StructureSerializer computeValue(Class<?> type) {
+            return new StructureSerializer(type);
+        }
+    };
+
+    /**
+     * {@code keys} the keys of the fields to serialize, already quoted and followed by the {@code ":"} separator
+     */
+    private final String[] keys;
+
+    /**
+     * {@code fields} the fields to serialize
+     */
+    private final Field[] fields;
+
+    /**
+     * Constructor to init {@link StructureSerializer}
+     *
+     * @param type: the class of the structures to serialize
+     * @apiNote a field is serialized when the name of a declared method which returns a value contains its name, so
+     * the same fields of the previous reflection-based serialization are written
+     */
+    private StructureSerializer(Class<?> type) {
+        LinkedHashMap<String, Field> serializedFields = new LinkedHashMap<>();
+        Field[] declaredFields = type.getDeclaredFields();
+        for (Method method : type.getDeclaredMethods()) {
+            if (method.getReturnType() == void.class)
+                continue;
+            String lowerMethodName = method.getName().toLowerCase();
+            Field wField = null;
+            for (Field field : declaredFields)
+                if (lowerMethodName.contains(field.getName().toLowerCase()))
+                    wField = field;
+            if (wField != null) {
+                try {
+                    wField.setAccessible(true);
+                    serializedFields.put(getSnakeCaseName(wField.getName()), wField);
+                } catch (RuntimeException ignored) {
+                }
+            }
+        }
+        keys = new String[serializedFields.size()];
+        fields = new Field[serializedFields.size()];
+        int j = 0;
+        for (Map.Entry<String, Field> field : serializedFields.entrySet()) {
+            keys[j] = JSONObject.quote(field.getKey()) + ":";
+            fields[j++] = field.getValue();
+        }
+    }
+
+    /**
+     * Method to get the serializer of a class
+     *
+     * @param type: the class of the structures to serialize
+     * @return serializer as {@link StructureSerializer}
+     */
+    static StructureSerializer getInstance(Class<?> type) {
+        return SERIALIZERS.get(type);
+    }
+
+    /**
+     * Method to serialize a structure
+     *
+     * @param structure: the structure to serialize
+     * @return structure formatted as JSON {@link String}
+     */
+    String serialize(Object structure) {
+        StringBuilder json = new StringBuilder("{");
+        for (int j = 0; j < fields.length; j++) {
+            Object value;
+            try {
+                value = fields[j].get(structure);
+            } catch (IllegalAccessException e) {
+                continue;
+            }
+            if (value == null || !isValidValue(value))
+                continue;
+            if (json.length() > 1)
+                json.append(',');
+            json.append(keys[j]);
+            writeValue(json, value);
+        }
+        return json.append('}').toString();
+    }
+
+    /**
+     * Method to write a value in JSON format
+     *
+     * @param json:  the builder where write the value
+     * @param value: the value to write
+     */
+    private static void writeValue(StringBuilder json, Object value) {
+        if (value == null)
+            json.append("null");
+        else if (value instanceof String string)
+            json.append(JSONObject.quote(string));
+        else if (value instanceof Number number)
+            json.append(isValidValue(number) ? JSONObject.numberToString(number) : "null");
+        else if (value instanceof Boolean)
+            json.append(value);
+        else if (value instanceof Enum<?> enumValue)
+            json.append(JSONObject.quote(enumValue.name()));
+        else if (value instanceof JSONObject || value instanceof JSONArray)
+            json.append(value);
+        else if (value instanceof Map<?, ?> map)
+            json.append(new JSONObject(map));
+        else if (value instanceof Collection<?> collection) {
+            json.append('[');
+            boolean first = true;
+            for (Object item : collection) {
+                if (!first)
+                    json.append(',');
+                writeValue(json, item);
+                first = false;
+            }
+            json.append(']');
+        } else if (value.getClass().isArray()) {
+            ArrayList<Object> items = new ArrayList<>();
+            for (int j = 0; j < Array.getLength(value); j++)
+                items.add(Array.get(value, j));
+            writeValue(json, items);
+        } else {
+            String string = value.toString();
+            if (value instanceof TelegramTypeStructure && (string.startsWith("{") || string.startsWith("[")))
+                json.append(string);
+            else
+                json.append(JSONObject.quote(string));
+        }
+    }
+
+    /**
+     * Method to get whether a value can be written in JSON format
+     *
+     * @param value: the value to check
+     * @return whether the value is not an infinite or a {@code NaN} number as boolean
+     */
+    private static boolean isValidValue(Object value) {
+        if (value instanceof Double number)
+            return !number.isInfinite() && !number.isNaN();
+        if (value instanceof Float number)
+            return !number.isInfinite() && !number.isNaN();
+        return true;
+    }
+
+    /**
+     * Method to get the snake-case name of a field
+     *
+     * @param fieldName: the name of the field
+     * @return snake-case name as {@link String}
+     */
+    private static String getSnakeCaseName(String fieldName) {
+        String fName = fieldName.replaceAll("([a-z])([A-Z]+)", "$1_$2").toLowerCase();
+        if (fName.contains("webpage")) {
+            String[] names = fName.split("web");
+            fName = names[0] + "web_" + names[1];
+        }
+        return fName;
+    }
+
+}
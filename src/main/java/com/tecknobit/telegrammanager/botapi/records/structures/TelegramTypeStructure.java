@@ -6,8 +6,6 @@ import com.tecknobit.apimanager.formatters.TimeFormatter;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Date;
 
@@ -21,10 +19,24 @@ import java.util.Date;
 @Structure
 public abstract class TelegramTypeStructure {
 
+    /**
+     * {@code lazyDecodingMode} whether the structures created from now on decode their sub-objects only when they are
+     * requested the first time
+     */
+    private static volatile boolean lazyDecodingMode;
+
+    /**
+     * {@code releaseSourceMode} whether the structures created from now on release their source JSON once their
+     * fields have been decoded
+     */
+    private static volatile boolean releaseSourceMode;
+
     /**
      * {@code hTelegram} helper to manage the JSON responses
+     *
+     * @apiNote this instance is set on {@code "null"} when the source JSON of the structure is released
      */
-    protected final JsonHelper hTelegram;
+    protected JsonHelper hTelegram;
 
     /**
      * {@code useSnakeNotation} whether use the snake-case annotation
@@ -35,6 +47,15 @@ public abstract class TelegramTypeStructure {
      */
     protected final boolean useSnakeNotation;
 
+    /**
+     * {@code lazyDecoding} whether the sub-objects of this structure are decoded only when they are requested the
+     * first time
+     *
+     * @apiNote this instance will set on {@code "true"} only when the structure is created from JSON and the
+     * {@link #lazyDecodingMode} is enabled and the {@link #releaseSourceMode} is disabled
+     */
+    protected final boolean lazyDecoding;
+
     /**
      * Constructor to init a {@link TelegramTypeStructure} object
      *
@@ -46,9 +67,83 @@ public abstract class TelegramTypeStructure {
             useSnakeNotation = true;
         } else
             useSnakeNotation = false;
+        lazyDecoding = !useSnakeNotation && lazyDecodingMode && !releaseSourceMode;
         hTelegram = new JsonHelper(jTelegramTypeStructure);
     }
 
+    /**
+     * Method to release the source JSON of the structure, the structure drops its reference to the JSON so it can be
+     * garbage collected when it is not referenced elsewhere <br>
+     * No-any params required
+     *
+     * @throws IllegalStateException when the structure decodes its sub-objects lazily
+     * @apiNote the values of the structure are not changed, the {@link #toString()} method rebuilds the JSON from them.
+     * The {@link JSONObject} passed to the constructor is not modified
+     */
+    public void releaseSource() {
+        if (lazyDecoding)
+            throw new IllegalStateException("A structure decoded lazily cannot release its source");
+        hTelegram = null;
+    }
+
+    /**
+     * Method to release the source JSON of the structure if the {@link #releaseSourceMode} is enabled, this method must
+     * be invoked at the end of the constructor which decodes the structure <br>
+     * No-any params required
+     */
+    protected void releaseSourceIfRequired() {
+        if (releaseSourceMode && !useSnakeNotation && !lazyDecoding)
+            hTelegram = null;
+    }
+
+    /**
+     * Method to set {@link #releaseSourceMode} instance
+     *
+     * @param releaseSourceMode: whether the structures created from now on release their source JSON once their fields
+     *                           have been decoded
+     * @apiNote while this mode is enabled, the {@code Update}, the {@code Message}, the {@code Chat} and the
+     * {@code User} structures drop their reference to the source JSON at the end of their constructors, the JSON
+     * passed to them is never modified. The source JSON can be garbage collected when the caller does not reference
+     * it, except the sub-objects kept by the nested structures which do not release their source. While this mode is
+     * enabled the {@link #lazyDecodingMode} is ignored
+     */
+    public static void setReleaseSourceMode(boolean releaseSourceMode) {
+        TelegramTypeStructure.releaseSourceMode = releaseSourceMode;
+    }
+
+    /**
+     * Method to get {@link #releaseSourceMode} instance <br>
+     * No-any params required
+     *
+     * @return {@link #releaseSourceMode} instance as boolean
+     */
+    public static boolean isReleaseSourceMode() {
+        return releaseSourceMode;
+    }
+
+    /**
+     * Method to set {@link #lazyDecodingMode} instance
+     *
+     * @param lazyDecodingMode: whether the structures created from now on decode their sub-objects only when they are
+     *                          requested the first time
+     * @apiNote the lazy decoding is supported by the {@code Update} and the {@code Message} structures, the other
+     * structures are ever decoded eagerly. The sub-objects decoded lazily are published safely, so the structures can
+     * be shared between threads; when two threads request the same sub-object the first time it can be decoded twice
+     */
+    public static void setLazyDecodingMode(boolean lazyDecodingMode) {
+        TelegramTypeStructure.lazyDecodingMode = lazyDecodingMode;
+    }
+
+    /**
+     * Method to get {@link #lazyDecodingMode} instance <br>
+     * No-any params required
+     *
+     * @return {@link #lazyDecodingMode} instance as boolean
+     */
+    public static boolean isLazyDecodingMode() {
+        return lazyDecodingMode;
+    }
+
     /**
      * Method to fetch a {@link String}' list
      *
@@ -100,38 +195,9 @@ public abstract class TelegramTypeStructure {
      */
     @Override
     public String toString() {
-        JSONObject details;
-        if (useSnakeNotation) {
-            details = new JSONObject();
-            Class<?> cClass = this.getClass();
-            for (Method method : this.getClass().getDeclaredMethods()) {
-                if (!method.getAnnotatedReturnType().getType().getTypeName().equals("void")) {
-                    try {
-                        Field wField = null;
-                        String lowerMethodName = method.getName().toLowerCase();
-                        for (Field field : this.getClass().getDeclaredFields())
-                            if (lowerMethodName.contains(field.getName().toLowerCase()))
-                                wField = field;
-                        if (wField != null) {
-                            wField.setAccessible(true);
-                            String fName = wField.getName().replaceAll("([a-z])([A-Z]+)", "$1_$2")
-                                    .toLowerCase();
-                            if (fName.contains("webpage")) {
-                                String[] names = fName.split("web");
-                                fName = names[0] + "web_" + names[1];
-                            }
-                            Object fieldValue = wField.get(this);
-                            if (fieldValue instanceof ArrayList<?>)
-                                fieldValue = new JSONArray(fieldValue.toString());
-                            details.put(fName, fieldValue);
-                        }
-                    } catch (Exception ignored) {
-                    }
-                }
-            }
-        } else
-            details = new JSONObject(this);
-        return details.toString();
+        if (useSnakeNotation)
+            return StructureSerializer.getInstance(getClass()).serialize(this);
+        return new JSONObject(this).toString();
     }
 
 }
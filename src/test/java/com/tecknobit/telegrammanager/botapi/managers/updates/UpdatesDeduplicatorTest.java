@@ -0,0 +1,63 @@
+package com.tecknobit.telegrammanager.botapi.managers.updates;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The {@code UpdatesDeduplicatorTest} class is useful to test the {@link UpdatesDeduplicator}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ */
+public class UpdatesDeduplicatorTest {
+
+    /**
+     * {@code WINDOW} the window of the deduplicators tested
+     */
+    private static final int WINDOW = 64;
+
+    /**
+     * Method to test that the sequential identifiers beyond the window are never dropped <br>
+     * No-any params required
+     */
+    @Test
+    public void sequentialIdsBeyondWindowAreNotDropped() {
+        UpdatesDeduplicator deduplicator = new UpdatesDeduplicator(update -> {
+        }, WINDOW);
+        for (long updateId = 100; updateId < 100 + WINDOW * 5; updateId++)
+            assertTrue(deduplicator.markReceived(updateId), "update " + updateId + " dropped");
+    }
+
+    /**
+     * Method to test that the identifiers received again are dropped <br>
+     * No-any params required
+     */
+    @Test
+    public void repeatedIdsAreDropped() {
+        UpdatesDeduplicator deduplicator = new UpdatesDeduplicator(update -> {
+        }, WINDOW);
+        for (long updateId = 0; updateId < WINDOW * 3; updateId++) {
+            assertTrue(deduplicator.markReceived(updateId));
+            assertFalse(deduplicator.markReceived(updateId));
+            if (updateId > 0)
+                assertFalse(deduplicator.markReceived(updateId - 1));
+        }
+    }
+
+    /**
+     * Method to test that the identifiers skipped inside the window are accepted when they arrive late <br>
+     * No-any params required
+     */
+    @Test
+    public void lateIdsInsideWindowAreAccepted() {
+        UpdatesDeduplicator deduplicator = new UpdatesDeduplicator(update -> {
+        }, WINDOW);
+        assertTrue(deduplicator.markReceived(1000));
+        assertTrue(deduplicator.markReceived(1000 + WINDOW - 1));
+        assertTrue(deduplicator.markReceived(1000 + WINDOW / 2));
+        assertFalse(deduplicator.markReceived(1000 + WINDOW / 2));
+        assertFalse(deduplicator.markReceived(1000 - 1));
+    }
+
+}